@@ -118,6 +118,14 @@ dependencies {
     // kotlin logging
     implementation("io.github.microutils:kotlin-logging-jvm:2.0.11")
 
+    // 로컬 캐시 / 캐시 지표
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+
+    // 게시물 검색 인덱스 (Lucene)
+    implementation("org.apache.lucene:lucene-core:9.12.0")
+    implementation("org.apache.lucene:lucene-analysis-common:9.12.0")
+
     // kotlin 용 Jackson 라이브러리
     implementation ("com.fasterxml.jackson.module:jackson-module-kotlin:2.18.2")
     implementation ("com.fasterxml.jackson.core:jackson-annotations:2.17.2")
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper
 import com.snackoverflow.toolgether.domain.chat.dto.ChatMessage
 import com.snackoverflow.toolgether.domain.chat.dto.CommunityMessage
 import com.snackoverflow.toolgether.domain.chat.redis.RedisPubSubEventPublisher
+import com.snackoverflow.toolgether.domain.chat.redis.RedisStreamChatTransport
 import com.snackoverflow.toolgether.domain.chat.redis.TopicFactory
 import com.snackoverflow.toolgether.domain.chat.service.ChannelSessionService
 import com.snackoverflow.toolgether.domain.chat.service.TopicSubscriptionService
@@ -20,6 +21,7 @@ import org.springframework.web.socket.TextMessage
 import org.springframework.web.socket.WebSocketHttpHeaders
 import org.springframework.web.socket.WebSocketSession
 import org.springframework.web.socket.client.standard.StandardWebSocketClient
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator
 import org.springframework.web.socket.handler.TextWebSocketHandler
 import java.io.IOException
 import java.net.URI
@@ -35,11 +37,19 @@ class ChatWebSocketHandler(
     private val topicFactory: TopicFactory, // 채널(토픽) 생성
     private val topicSubscriptionService: TopicSubscriptionService, // 채널 구독 용도
     private val channelSessionService: ChannelSessionService,
+    private val streamTransport: RedisStreamChatTransport?, // custom.chat.transport: stream 일 때만 존재
     private val redisTemplate: RedisTemplate<String, Any>,
     private val log: Logger,
     @Value("\${websocket.endpoint.uri}") private val socketUri: String
 ) : TextWebSocketHandler() {
 
+    companion object {
+        private const val SEND_TIME_LIMIT_MS = 10_000
+        private const val SEND_BUFFER_SIZE_LIMIT = 1024 * 1024
+    }
+
+    // 재전송 / 구독 메시지 / 핑이 서로 다른 스레드에서 같은 세션으로 보내므로 전송을 직렬화하는 세션으로 감싸 사용
+    private val concurrentSessions = ConcurrentHashMap<String, WebSocketSession>()
     private val pongReceivedMap = ConcurrentHashMap<WebSocketSession, Boolean>()
     private val scheduler: ScheduledExecutorService = Executors.newScheduledThreadPool(1) // 재연결 스케줄러
 
@@ -52,16 +62,22 @@ class ChatWebSocketHandler(
         }
 
         log.info("클라이언트 연결 성공: {}, userId: {}", session.id, userId)
+        val concurrentSession = concurrentSessionOf(session)
 
         // 읽지 않은 메시지 처리
         val unreadKey = "chat:unread:$userId"
         redisTemplate.opsForValue()[unreadKey]?.let { unreadCount ->
             if (unreadCount is Int && unreadCount > 0) {
-                session.sendMessage(TextMessage("읽지 않은 메시지가 $unreadCount 개 있습니다."))
+                concurrentSession.sendMessage(TextMessage("읽지 않은 메시지가 $unreadCount 개 있습니다."))
                 redisTemplate.delete(unreadKey)
             }
         }
 
+        // 스트림 전송 방식이면 끊겨 있던 동안 놓친 메시지 재전송 (별도 스레드)
+        (session.attributes["lastEventId"] as? String)?.let { lastEventId ->
+            streamTransport?.replayAsync(concurrentSession, userId, lastEventId)
+        }
+
         // Pong 상태 초기화 및 핑 스케줄러 시작
         pongReceivedMap[session] = true
         startPingScheduler(session)
@@ -86,7 +102,7 @@ class ChatWebSocketHandler(
 
             // 채널 구독 설정 및 WebSocket 세션 등록
             topicSubscriptionService.subscriberToChatCommunity(channelTopic)
-            channelSessionService.addSession(channelTopic.topic, session)
+            channelSessionService.addSession(channelTopic.topic, concurrentSessionOf(session))
 
             log.debug("message 변환 후: {}, 채널 생성 및 Redis 발행 준비", communityMessage)
 
@@ -101,7 +117,7 @@ class ChatWebSocketHandler(
             topicSubscriptionService.subscribeToChatTopic(chatMessage.sender, chatMessage.receiver)
 
             // WebSocket 세션을 해당 채널에 등록
-            channelSessionService.addSession(channelTopic.topic, session)
+            channelSessionService.addSession(channelTopic.topic, concurrentSessionOf(session))
 
             log.debug("message 변환 후: {}, 채널 생성 및 Redis 발행 준비", chatMessage)
 
@@ -117,7 +133,7 @@ class ChatWebSocketHandler(
 
         // 세션 제거
         pongReceivedMap.remove(session)
-        channelSessionService.removeSession(session)
+        channelSessionService.removeSession(concurrentSessions.remove(session.id) ?: session)
 
         // 자동 재연결 로직 실행
         attemptReconnect(session)
@@ -129,6 +145,11 @@ class ChatWebSocketHandler(
         pongReceivedMap[session] = true // Pong 수신 상태 업데이트
     }
 
+    private fun concurrentSessionOf(session: WebSocketSession): WebSocketSession =
+        concurrentSessions.computeIfAbsent(session.id) {
+            ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT_MS, SEND_BUFFER_SIZE_LIMIT)
+        }
+
     private fun startPingScheduler(session: WebSocketSession) {
         scheduler.scheduleAtFixedRate({
             try {
@@ -143,7 +164,7 @@ class ChatWebSocketHandler(
                     }
 
                     // Ping 메시지 전송 및 상태 업데이트
-                    session.sendMessage(PingMessage())
+                    concurrentSessionOf(session).sendMessage(PingMessage())
                     pongReceivedMap[session] = false
                     log.info("Ping 메시지 전송: {}", session.id)
                 }
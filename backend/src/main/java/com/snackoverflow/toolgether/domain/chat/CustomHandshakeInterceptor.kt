@@ -28,6 +28,11 @@ class CustomHandshakeInterceptor() : HandshakeInterceptor {
                 val userId = servletRequest.getParameter("userId")
                 attributes["userId"] = userId // WebSocketSession에 저장
             }
+
+            // 재연결 시 마지막으로 받은 이벤트 ID (스트림 전송 방식에서 놓친 메시지 재전송)
+            servletRequest.getParameter("lastEventId")?.takeIf { it.isNotBlank() }?.let {
+                attributes["lastEventId"] = it
+            }
         }
         return true // 핸드셰이크 진행
     }
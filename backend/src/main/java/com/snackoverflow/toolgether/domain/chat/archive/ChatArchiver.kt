@@ -0,0 +1,123 @@
+package com.snackoverflow.toolgether.domain.chat.archive
+
+import com.fasterxml.jackson.core.JsonProcessingException
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.snackoverflow.toolgether.domain.chat.dto.ChatMessage
+import com.snackoverflow.toolgether.domain.chat.repository.ChatMessageArchiveWriter
+import com.snackoverflow.toolgether.domain.chat.repository.ChatMessageArchiveWriter.ArchivedMessage
+import org.slf4j.Logger
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.dao.DataAccessException
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.core.script.DefaultRedisScript
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+import java.security.MessageDigest
+import java.time.Duration
+import java.util.HexFormat
+import java.util.UUID
+import kotlin.math.roundToLong
+
+/**
+ * 채팅 보관 계층
+ * Redis 에는 채널당 최근 hotWindow 개만 남기고, 밀려난 메시지는 버리지 않고 대기 리스트(chat:archive:staging)로 옮긴다
+ * (ZPOPMIN + RPUSH 를 Lua 스크립트 하나로 실행 -> 옮기는 도중 유실 / 중복 없음)
+ *
+ * 대기 리스트는 주기적으로 배치 INSERT 로 chat_message 테이블에 쓰고, 쓴 만큼만 리스트에서 잘라낸다
+ * 여러 서버 중 락을 잡은 한 대만 비우고, 중간에 실패하면 다음 주기에 같은 배치를 다시 쓴다 (INSERT IGNORE 로 중복 무시)
+ */
+@Component
+class ChatArchiver(
+    private val redisTemplate: RedisTemplate<String, String>,
+    private val objectMapper: ObjectMapper,
+    private val archiveWriter: ChatMessageArchiveWriter,
+    private val log: Logger,
+    @Value("\${custom.chat.hot-window:100}") private val hotWindow: Long,
+    @Value("\${custom.chat.archive.batch-size:500}") private val batchSize: Long
+) {
+
+    companion object {
+        const val STAGING_KEY = "chat:archive:staging"
+        private const val LOCK_KEY = "chat:archive:lock"
+        private val LOCK_TTL: Duration = Duration.ofSeconds(60)
+
+        // KEYS[1] 채널 키, KEYS[2] 대기 리스트, ARGV[1] 남길 개수, ARGV[2] 채널 이름
+        private val TRIM_SCRIPT = DefaultRedisScript(
+            """
+            local overflow = redis.call('ZCARD', KEYS[1]) - tonumber(ARGV[1])
+            if overflow <= 0 then return 0 end
+            local popped = redis.call('ZPOPMIN', KEYS[1], overflow)
+            for i = 1, #popped, 2 do
+              redis.call('RPUSH', KEYS[2], cjson.encode({channel = ARGV[2], score = popped[i + 1], payload = popped[i]}))
+            end
+            return overflow
+            """.trimIndent(),
+            Long::class.java
+        )
+    }
+
+    // 대기 리스트에 들어가는 항목
+    data class StagedMessage(
+        var channel: String = "",
+        var score: String = "",
+        var payload: String = ""
+    )
+
+    private val nodeId = UUID.randomUUID().toString()
+
+    /**
+     * 최근 hotWindow 개를 넘는 오래된 메시지를 대기 리스트로 옮김
+     * 파이프라인 밖에서 실행해야 한다: 스크립트는 EVALSHA 로 보내고 NOSCRIPT 가 오면 EVAL 로 다시 보내는데,
+     * 파이프라인 안에서는 NOSCRIPT 가 파이프라인을 닫을 때에야 드러나 재시도 없이 저장 전체가 실패한다 (Redis 재시작 / 페일오버 / SCRIPT FLUSH 직후)
+     */
+    fun trim(redisKey: String, channelName: String) {
+        redisTemplate.execute(TRIM_SCRIPT, listOf(redisKey, STAGING_KEY), hotWindow.toString(), channelName)
+    }
+
+    @Scheduled(fixedDelayString = "\${custom.chat.archive.flush-interval-ms:1000}")
+    fun flush() {
+        try {
+            if (redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, nodeId, LOCK_TTL) != true) return
+            try {
+                var total = 0
+                while (true) {
+                    val batch = redisTemplate.opsForList().range(STAGING_KEY, 0, batchSize - 1).orEmpty()
+                    if (batch.isEmpty()) break
+
+                    archiveWriter.write(batch.mapNotNull { toArchivedMessage(it) })
+                    redisTemplate.opsForList().trim(STAGING_KEY, batch.size.toLong(), -1)
+                    total += batch.size
+
+                    if (batch.size < batchSize) break
+                }
+                if (total > 0) log.info("채팅 메시지 보관 완료: {}개", total)
+            } finally {
+                if (redisTemplate.opsForValue()[LOCK_KEY] == nodeId) redisTemplate.delete(LOCK_KEY)
+            }
+        } catch (e: DataAccessException) {
+            log.warn("채팅 메시지 보관 실패 (다음 주기에 재시도): {}", e.message)
+        }
+    }
+
+    private fun toArchivedMessage(json: String): ArchivedMessage? {
+        return try {
+            val staged = objectMapper.readValue(json, StagedMessage::class.java)
+            val message = objectMapper.readValue(staged.payload, ChatMessage::class.java)
+            ArchivedMessage(
+                channelName = staged.channel,
+                ts = (staged.score.toDouble() * 1000).roundToLong(),
+                message = message,
+                digest = sha256(staged.payload)
+            )
+        } catch (e: JsonProcessingException) {
+            log.error("보관할 채팅 메시지 파싱 오류 (건너뜀): ${e.message}")
+            null
+        } catch (e: NumberFormatException) {
+            log.error("보관할 채팅 메시지 시각 오류 (건너뜀): ${e.message}")
+            null
+        }
+    }
+
+    private fun sha256(value: String): String =
+        HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value.toByteArray()))
+}
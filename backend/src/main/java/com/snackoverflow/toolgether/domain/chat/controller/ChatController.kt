@@ -1,5 +1,7 @@
 package com.snackoverflow.toolgether.domain.chat.controller
 
+import com.snackoverflow.toolgether.domain.chat.dto.ChatHistoryPage
+import com.snackoverflow.toolgether.domain.chat.dto.ChatInboxItem
 import com.snackoverflow.toolgether.domain.chat.dto.ChatMessage
 import com.snackoverflow.toolgether.domain.chat.service.ChatService
 import com.snackoverflow.toolgether.global.dto.RsData
@@ -37,6 +39,20 @@ class ChatController(
         )
     }
 
+    // 채팅방 목록 조회 (최근 메시지 순, 마지막 메시지 / 읽지 않은 메시지 수 포함)
+    @GetMapping("/inbox")
+    fun getInbox(
+        @RequestParam userId: String,
+        @RequestParam(defaultValue = "0") page: Int,
+        @RequestParam(defaultValue = "20") size: Int
+    ): RsData<List<ChatInboxItem>> {
+        return RsData(
+            resultCode = "200-1",
+            msg = "채팅방 목록 조회 성공",
+            data = chatService.getInbox(userId, page, size)
+        )
+    }
+
     // 채팅 내역 조회
     @GetMapping("/history")
     fun getChatHistory(
@@ -53,6 +69,21 @@ class ChatController(
         )
     }
 
+    // 채팅 내역 페이지 조회 (최신 size 개, 스크롤을 올리면 nextCursor 를 before 로 넘겨 이전 메시지 조회)
+    @GetMapping("/history/page")
+    fun getChatHistoryPage(
+        @RequestParam channelName: String,
+        @RequestParam userId: String,
+        @RequestParam(required = false) before: String?,
+        @RequestParam(defaultValue = "30") size: Int
+    ): RsData<ChatHistoryPage> {
+        return RsData(
+            resultCode = "200-1",
+            msg = "채팅 내역 불러오기 성공",
+            data = chatService.getChatHistoryPage(channelName, userId, before, size)
+        )
+    }
+
     // 채팅방 삭제
     @DeleteMapping("/delete")
     fun deleteChat(
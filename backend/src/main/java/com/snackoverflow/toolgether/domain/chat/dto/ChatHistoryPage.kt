@@ -0,0 +1,7 @@
+package com.snackoverflow.toolgether.domain.chat.dto
+
+data class ChatHistoryPage(
+    val messages: List<ChatMessage>,  // 오래된 메시지 -> 최신 메시지 순
+    val nextCursor: String?,          // 이전 메시지를 더 불러올 때 before 로 전달 (없으면 null)
+    val hasMore: Boolean              // 더 오래된 메시지가 남아 있는지
+)
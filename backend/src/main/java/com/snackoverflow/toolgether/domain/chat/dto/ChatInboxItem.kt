@@ -0,0 +1,10 @@
+package com.snackoverflow.toolgether.domain.chat.dto
+
+data class ChatInboxItem(
+    val channelName: String,          // 채널 이름 (정렬된 두 사용자 ID)
+    val partnerId: String,            // 상대방 ID
+    val partnerName: String?,         // 상대방 닉네임 (마지막 메시지 기준)
+    val lastMessage: String?,         // 마지막 메시지 미리보기 (내가 삭제한 메시지면 null)
+    val lastMessageAt: String?,       // 마지막 메시지 시각
+    val unreadCount: Long             // 마지막으로 읽은 이후 도착한 메시지 수
+)
@@ -3,7 +3,7 @@ package com.snackoverflow.toolgether.domain.chat.dto
 import java.time.LocalDateTime
 import java.time.format.DateTimeFormatter
 
-data class ChatMessage(
+data class ChatMessage @JvmOverloads constructor(
     var sender: String = "",          // 보낸 사람의 ID
     var receiver: String = "",        // 받는 사람의 ID
     var content: String = "",         // 메시지 내용
@@ -11,5 +11,7 @@ data class ChatMessage(
     var senderName: String = "",      // 보내는 사람 닉네임
     var receiverName: String = "",    // 받는 사람 닉네임
     var deletedSender: Boolean = false,   // 보낸 사람 기준 삭제 여부
-    var deletedReceiver: Boolean = false  // 받는 사람 기준 삭제 여부
+    var deletedReceiver: Boolean = false, // 받는 사람 기준 삭제 여부
+    var messageId: String = "",       // 메시지 ID (발행 시 부여, Redis 에 같은 메시지를 여러 번 저장해도 하나만 남음)
+    var eventId: String = ""          // 스트림 전송 방식에서 받은 이벤트 ID (재연결 시 lastEventId 로 전달, 저장하지 않음)
 )
\ No newline at end of file
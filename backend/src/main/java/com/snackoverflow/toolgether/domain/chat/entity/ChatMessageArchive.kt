@@ -0,0 +1,51 @@
+package com.snackoverflow.toolgether.domain.chat.entity
+
+import jakarta.persistence.*
+import java.time.LocalDateTime
+
+// Redis 최근 메시지 구간(채널당 100개)에서 밀려난 채팅 메시지
+@Entity
+@Table(
+    name = "chat_message",
+    indexes = [Index(name = "idx_chat_message_channel_ts", columnList = "channelName, ts")], // 채널별 시간 역순 조회
+    uniqueConstraints = [UniqueConstraint(name = "uk_chat_message_channel_ts_digest", columnNames = ["channelName", "ts", "digest"])]
+)
+class ChatMessageArchive(
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    var id: Long? = null,
+
+    @Column(nullable = false, length = 100)
+    var channelName: String,
+
+    @Column(nullable = false)
+    var ts: Long, // 전송 시각 (epoch millis, Redis score * 1000)
+
+    @Column(nullable = false)
+    var sender: String,
+
+    @Column(nullable = false)
+    var receiver: String,
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    var content: String,
+
+    var senderName: String? = null,
+
+    var receiverName: String? = null,
+
+    @Column(nullable = false)
+    var deletedSender: Boolean = false,
+
+    @Column(nullable = false)
+    var deletedReceiver: Boolean = false,
+
+    @Column(length = 36)
+    var messageId: String? = null, // 발행 시 부여한 메시지 ID (ID 가 생기기 전 메시지는 null)
+
+    @Column(nullable = false, length = 64)
+    var digest: String, // 원본 JSON 의 SHA-256 (같은 메시지를 두 번 옮겨도 한 번만 저장)
+
+    @Column(nullable = false)
+    var archivedAt: LocalDateTime
+)
@@ -7,6 +7,7 @@ import com.snackoverflow.toolgether.domain.chat.service.ChatService
 import org.slf4j.Logger
 import org.springframework.data.redis.core.RedisTemplate
 import org.springframework.stereotype.Component
+import java.util.UUID
 
 /**
  * Pub / Sub 의 발행 흐름
@@ -18,7 +19,8 @@ class RedisPubSubEventPublisher(
     private val log: Logger,
     private val redisTemplate: RedisTemplate<String, Any>,
     private val objectMapper: ObjectMapper,
-    private val chatService: ChatService
+    private val chatService: ChatService,
+    private val streamTransport: RedisStreamChatTransport? // custom.chat.transport: stream 일 때만 존재
 ) {
 
     companion object {
@@ -36,7 +38,12 @@ class RedisPubSubEventPublisher(
      * }
      */
     // 채팅 메시지 발행
+    // 저장은 발행한 서버에서 한 번만 하고(구독하는 서버들은 전달만 함), 저장한 뒤에 발행해서 받은 쪽이 내역을 다시 읽어도 메시지가 보이도록 한다
     fun publishChatEvent(channel: String, message: ChatMessage) {
+        if (message.messageId.isBlank()) message.messageId = UUID.randomUUID().toString()
+
+        // Redis SortedSet에 값을 저장
+        chatService.saveMessage(channel, message)
 
         val event = ChatEvent(
             type = "MSG",
@@ -44,12 +51,14 @@ class RedisPubSubEventPublisher(
             payload = objectMapper.writeValueAsString(message)
         )
 
-        redisTemplate.convertAndSend("$CHAT_EVENT_PREFIX$channel", event)
-
-        // Redis SortedSet에 값을 저장
-        chatService.saveMessage(channel, message)
+        // 스트림 전송 방식이면 XADD (서버가 잠시 내려가 있어도 다시 올라오면 이어서 받음), 아니면 Pub / Sub
+        if (streamTransport != null) {
+            streamTransport.publish("$CHAT_EVENT_PREFIX$channel", event)
+        } else {
+            redisTemplate.convertAndSend("$CHAT_EVENT_PREFIX$channel", event)
+        }
 
-        log.info("[Pub] 채팅 발행 - 채널: $channel")
+        log.info("[Pub] 채팅 발행 - 채널: $channel, 메시지: ${message.messageId}")
     }
 
     // 시스템 알림 발행
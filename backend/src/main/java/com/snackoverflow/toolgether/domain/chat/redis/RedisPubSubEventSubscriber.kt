@@ -4,12 +4,10 @@ import com.fasterxml.jackson.databind.ObjectMapper
 import com.snackoverflow.toolgether.domain.chat.dto.ChatMessage
 import com.snackoverflow.toolgether.domain.chat.dto.CommunityMessage
 import com.snackoverflow.toolgether.domain.chat.redis.RedisPubSubEventPublisher.ChatEvent
-import com.snackoverflow.toolgether.domain.chat.redis.RedisPubSubEventPublisher.Companion.CHAT_EVENT_PREFIX
 import com.snackoverflow.toolgether.domain.chat.redis.RedisPubSubEventPublisher.Companion.NOTIFICATION_PREFIX
 import com.snackoverflow.toolgether.domain.chat.redis.RedisPubSubEventPublisher.NotificationPayload
 import com.snackoverflow.toolgether.domain.chat.service.ChannelSessionService
 import com.snackoverflow.toolgether.domain.chat.service.ChatNotificationService
-import com.snackoverflow.toolgether.domain.chat.service.ChatService
 import org.slf4j.Logger
 import org.springframework.context.annotation.Lazy
 import org.springframework.data.redis.connection.Message
@@ -26,7 +24,6 @@ class RedisPubSubEventSubscriber(
     private val objectMapper: ObjectMapper,
     private val chatNotificationService: ChatNotificationService,
     private val channelSessionService: ChannelSessionService,
-    private val chatService: ChatService,
     private val redisTemplate: RedisTemplate<String, Any>,
 ) : MessageListener {
 
@@ -62,17 +59,22 @@ class RedisPubSubEventSubscriber(
      * 보낸 사람: user1, 받는 사람: user2, 내용: Hello!
      */
 
+    // Redis Streams 전송 방식에서 읽은 채팅 이벤트 처리 (eventId: 스트림 항목 ID)
+    fun deliverChatEvent(channel: String, messageBody: String, eventId: String) {
+        handleChatEvent(channel, messageBody, false, eventId)
+    }
+
     // 1. 채팅 메시지 처리
-    private fun handleChatEvent(channel: String, messageBody: String, isDelivered: Boolean) {
+    private fun handleChatEvent(channel: String, messageBody: String, isDelivered: Boolean, eventId: String? = null) {
         // 1. 이벤트 역직렬화
         val event = objectMapper.readValue(messageBody, ChatEvent::class.java)
 
         // 2. 페이로드 추출
         val chatMessageDto = objectMapper.readValue(event.payload, ChatMessage::class.java)
+        eventId?.let { chatMessageDto.eventId = it }
         log.info("보낸 사람: ${chatMessageDto.sender}, 받는 사람: ${chatMessageDto.receiver}, 내용: ${chatMessageDto.content}")
 
-        // 4. 메시지 저장
-        chatService.saveMessage(channel.removePrefix(CHAT_EVENT_PREFIX), chatMessageDto)
+        // 4. 메시지 저장은 발행한 서버에서 이미 끝남 (RedisPubSubEventPublisher) -> 여기서는 전달만
 
         // 5. 웹소켓 브로드캐스트 -> 현재 연결된 사용자들에게만 메시지 전달
         val sessions = channelSessionService.getSessions(channel)
@@ -0,0 +1,258 @@
+package com.snackoverflow.toolgether.domain.chat.redis
+
+import com.fasterxml.jackson.core.JsonProcessingException
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.snackoverflow.toolgether.domain.chat.dto.ChatMessage
+import com.snackoverflow.toolgether.domain.chat.redis.RedisPubSubEventPublisher.ChatEvent
+import jakarta.annotation.PreDestroy
+import org.slf4j.Logger
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
+import org.springframework.boot.context.event.ApplicationReadyEvent
+import org.springframework.context.annotation.Lazy
+import org.springframework.context.event.EventListener
+import org.springframework.core.NestedExceptionUtils
+import org.springframework.dao.DataAccessException
+import org.springframework.data.domain.Range
+import org.springframework.data.redis.connection.Limit
+import org.springframework.data.redis.connection.RedisConnectionFactory
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions
+import org.springframework.data.redis.connection.stream.Consumer
+import org.springframework.data.redis.connection.stream.MapRecord
+import org.springframework.data.redis.connection.stream.ReadOffset
+import org.springframework.data.redis.connection.stream.StreamOffset
+import org.springframework.data.redis.connection.stream.StreamReadOptions
+import org.springframework.data.redis.connection.stream.StreamRecords
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.stream.StreamListener
+import org.springframework.data.redis.stream.StreamMessageListenerContainer
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamMessageListenerContainerOptions
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamReadRequest
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+import org.springframework.web.socket.TextMessage
+import org.springframework.web.socket.WebSocketSession
+import java.time.Duration
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+
+/**
+ * Redis Streams 채팅 전송 (custom.chat.transport: stream)
+ * Pub / Sub 은 받는 서버가 재시작 / 끊김 상태면 메시지가 사라지므로, 채팅 이벤트를 스트림에 XADD 하고 서버마다 소비자 그룹으로 읽는다
+ *
+ * - 서버마다 자기 소비자 그룹(chat-node:{nodeId})을 가지므로 모든 서버가 모든 메시지를 받는다 (세션이 어느 서버에 붙어 있어도 전달)
+ * - XREADGROUP 으로 batchSize 개씩 읽고, 전달한 뒤 XACK
+ * - 시작할 때 처리하지 못하고 남은 항목(PEL)을 먼저 다시 처리 -> 재시작해도 그 사이 메시지를 잃지 않음 (nodeId 가 재시작 후에도 같아야 함)
+ * - 스트림 길이는 MAXLEN ~ maxLen 으로 제한
+ * - 재연결한 클라이언트는 마지막으로 받은 이벤트 ID(lastEventId) 이후 메시지를 다시 받는다 (최근 replayMaxEvents 개 범위, 그 이전은 내역 API 로 조회)
+ * - 재배포로 nodeId 가 바뀌어 더 이상 읽지 않는 그룹은 주기적으로 삭제한다
+ */
+@Component
+@ConditionalOnProperty(name = ["custom.chat.transport"], havingValue = "stream")
+class RedisStreamChatTransport(
+    private val redisTemplate: RedisTemplate<String, String>,
+    private val connectionFactory: RedisConnectionFactory,
+    private val objectMapper: ObjectMapper,
+    @Lazy private val subscriber: RedisPubSubEventSubscriber,
+    private val log: Logger,
+    @Value("\${custom.chat.stream.key:chat:stream:events}") private val streamKey: String,
+    @Value("\${custom.chat.stream.max-len:100000}") private val maxLen: Long,
+    @Value("\${custom.chat.stream.batch-size:100}") private val batchSize: Int,
+    @Value("\${custom.chat.stream.node-id:\${HOSTNAME:local}}") private val nodeId: String,
+    @Value("\${custom.chat.stream.replay-max-events:1000}") private val replayMaxEvents: Long,
+    @Value("\${custom.chat.stream.orphan-group-idle-ms:3600000}") private val orphanGroupIdleMs: Long
+) {
+
+    companion object {
+        private const val FIELD_CHANNEL = "channel"
+        private const val FIELD_EVENT = "event"
+        private const val GROUP_PREFIX = "chat-node:"
+        private const val REPLAY_THREADS = 2
+        private val POLL_TIMEOUT: Duration = Duration.ofSeconds(2)
+        private val EVENT_ID = Regex("\\d{1,20}(-\\d{1,20})?") // 스트림 ID 형식 (ms 또는 ms-seq)
+    }
+
+    private val group = GROUP_PREFIX + nodeId
+    private var container: StreamMessageListenerContainer<String, MapRecord<String, String, String>>? = null
+    private val replayExecutor: ExecutorService = Executors.newFixedThreadPool(REPLAY_THREADS) // 재전송은 핸드셰이크 스레드 밖에서
+
+    // 채팅 이벤트 발행 (channel 은 Pub / Sub 채널 이름과 같은 형식: chat:event:{채널})
+    fun publish(channel: String, event: ChatEvent) {
+        val record = StreamRecords.string(
+            mapOf(FIELD_CHANNEL to channel, FIELD_EVENT to objectMapper.writeValueAsString(event))
+        ).withStreamKey(streamKey)
+
+        redisTemplate.opsForStream<String, String>().add(record, XAddOptions.maxlen(maxLen).approximateTrimming(true))
+    }
+
+    @EventListener(ApplicationReadyEvent::class)
+    fun start() {
+        try {
+            createGroupIfAbsent()
+            recoverPending()
+        } catch (e: DataAccessException) {
+            log.error("[Stream] 채팅 스트림 준비 실패: {}", e.message)
+        }
+
+        val options = StreamMessageListenerContainerOptions.builder()
+            .batchSize(batchSize)
+            .pollTimeout(POLL_TIMEOUT)
+            .build()
+
+        // receive() 는 읽기 오류가 한 번만 나도 구독을 취소하므로, 오류가 나도 계속 읽도록 직접 요청을 구성
+        val request = StreamReadRequest.builder(StreamOffset.create(streamKey, ReadOffset.lastConsumed()))
+            .consumer(Consumer.from(group, nodeId))
+            .autoAcknowledge(false)
+            .cancelOnError { false }
+            .errorHandler { onReadError(it) }
+            .build()
+
+        container = StreamMessageListenerContainer.create(connectionFactory, options).apply {
+            register(request, StreamListener { handle(it) })
+            start()
+        }
+        log.info("[Stream] 채팅 스트림 구독 시작 - 스트림: {}, 그룹: {}", streamKey, group)
+    }
+
+    fun stop() {
+        container?.stop()
+    }
+
+    @PreDestroy
+    fun close() {
+        stop()
+        replayExecutor.shutdownNow()
+    }
+
+    // 연결 스레드를 막지 않도록 재전송을 별도 스레드에서 실행 (session 은 동시 전송이 가능하도록 감싼 세션)
+    fun replayAsync(session: WebSocketSession, userId: String, lastEventId: String) {
+        replayExecutor.execute {
+            try {
+                replay(session, userId, lastEventId)
+            } catch (e: Exception) {
+                log.error("[Stream] 놓친 메시지 재전송 실패 - 사용자: {}, 오류: {}", userId, e.message)
+            }
+        }
+    }
+
+    /**
+     * 재연결한 사용자에게 lastEventId 이후 자신이 보내거나 받은 메시지를 다시 전달
+     * 스트림에는 모든 채널의 이벤트가 섞여 있으므로 최근 replayMaxEvents 개까지만 XREVRANGE 로 읽는다 (더 오래 끊겨 있었으면 내역 API 로 조회)
+     */
+    fun replay(session: WebSocketSession, userId: String, lastEventId: String) {
+        if (!EVENT_ID.matches(lastEventId)) {
+            log.warn("[Stream] 잘못된 lastEventId 로 재전송하지 않습니다 - 사용자: {}, ID: {}", userId, lastEventId)
+            return
+        }
+
+        val records = redisTemplate.opsForStream<String, String>().reverseRange(
+            streamKey,
+            Range.of(Range.Bound.exclusive(lastEventId), Range.Bound.unbounded()),
+            Limit.limit().count(replayMaxEvents.toInt())
+        ).orEmpty()
+
+        var replayed = 0
+        records.asReversed().forEach { record ->
+            // 채널 이름에 사용자 ID 가 없으면 JSON 을 파싱하지 않고 건너뜀
+            if (record.value[FIELD_CHANNEL]?.contains(userId) != true) return@forEach
+            val message = toChatMessage(record) ?: return@forEach
+            if (message.sender != userId && message.receiver != userId) return@forEach
+
+            session.sendMessage(TextMessage(objectMapper.writeValueAsString(message.apply { eventId = record.id.value })))
+            replayed++
+        }
+        if (records.size >= replayMaxEvents) {
+            log.warn("[Stream] 재전송 범위 초과 - 사용자: {}, 최근 {}개 이벤트만 확인 (마지막 ID: {})", userId, replayMaxEvents, lastEventId)
+        }
+        log.info("[Stream] 놓친 메시지 재전송 - 사용자: {}, {}개 (마지막 ID: {})", userId, replayed, lastEventId)
+    }
+
+    /**
+     * 다른 nodeId 의 그룹 중 모든 소비자가 orphanGroupIdleMs 동안 읽지 않은 그룹 삭제
+     * (nodeId 는 HOSTNAME 이라 파드가 다시 배치될 때마다 새 그룹이 생기고, 이전 그룹은 아무도 읽지 않은 채 남는다)
+     * 살아 있는 서버는 pollTimeout 마다 XREADGROUP 을 보내므로 idle 이 pollTimeout 을 넘지 않는다
+     */
+    @Scheduled(fixedDelayString = "\${custom.chat.stream.orphan-group-cleanup-interval-ms:600000}")
+    fun removeOrphanGroups() {
+        try {
+            val streamOps = redisTemplate.opsForStream<String, String>()
+            if (redisTemplate.hasKey(streamKey) != true) return
+
+            streamOps.groups(streamKey).stream()
+                .filter { it.groupName().startsWith(GROUP_PREFIX) && it.groupName() != group }
+                .filter { info -> streamOps.consumers(streamKey, info.groupName()).stream().allMatch { it.idleTimeMs() >= orphanGroupIdleMs } }
+                .forEach { info ->
+                    streamOps.destroyGroup(streamKey, info.groupName())
+                    log.info("[Stream] 사용하지 않는 소비자 그룹 삭제 - 그룹: {}, 미처리: {}개", info.groupName(), info.pendingCount())
+                }
+        } catch (e: DataAccessException) {
+            log.warn("[Stream] 사용하지 않는 소비자 그룹 정리 실패: {}", e.message)
+        }
+    }
+
+    private fun createGroupIfAbsent() {
+        try {
+            redisTemplate.opsForStream<String, String>().createGroup(streamKey, ReadOffset.latest(), group)
+        } catch (e: DataAccessException) {
+            // 이미 그룹이 있으면 BUSYGROUP -> 마지막으로 읽은 위치부터 이어서 읽음
+            if (e.mostSpecificCause.message?.contains("BUSYGROUP") != true) throw e
+        }
+    }
+
+    // 스트림 키가 지워지면(만료, FLUSHDB 등) 그룹도 사라져 NOGROUP 이 반복되므로 그룹을 다시 만든다
+    private fun onReadError(e: Throwable) {
+        log.warn("[Stream] 채팅 스트림 읽기 실패: {}", e.message)
+        if (NestedExceptionUtils.getMostSpecificCause(e).message?.contains("NOGROUP") != true) return
+
+        try {
+            createGroupIfAbsent()
+            log.info("[Stream] 소비자 그룹 재생성 - 스트림: {}, 그룹: {}", streamKey, group)
+        } catch (ex: DataAccessException) {
+            log.error("[Stream] 소비자 그룹 재생성 실패: {}", ex.message)
+        }
+    }
+
+    // 이전 실행에서 읽었지만 ACK 하지 못한 항목을 먼저 처리
+    private fun recoverPending() {
+        var lastId = "0"
+        var recovered = 0
+        while (true) {
+            val records = redisTemplate.opsForStream<String, String>().read(
+                Consumer.from(group, nodeId),
+                StreamReadOptions.empty().count(batchSize.toLong()),
+                StreamOffset.create(streamKey, ReadOffset.from(lastId))
+            ).orEmpty()
+            if (records.isEmpty()) break
+
+            records.forEach { handle(it) }
+            recovered += records.size
+            lastId = records.last().id.value
+        }
+        if (recovered > 0) log.info("[Stream] 미처리 채팅 이벤트 재처리 - {}개", recovered)
+    }
+
+    private fun handle(record: MapRecord<String, String, String>) {
+        try {
+            val channel = record.value[FIELD_CHANNEL]
+            val event = record.value[FIELD_EVENT]
+            if (channel != null && event != null) {
+                subscriber.deliverChatEvent(channel, event, record.id.value)
+            }
+        } catch (e: Exception) {
+            log.error("[Stream] 채팅 이벤트 처리 실패 - ID: ${record.id.value}, 오류: ${e.message}")
+        } finally {
+            // 전달에 실패해도 다시 시도해서 해결되지 않으므로 ACK (메시지는 이미 저장되어 있어 내역에서 조회 가능)
+            redisTemplate.opsForStream<String, String>().acknowledge(streamKey, group, record.id)
+        }
+    }
+
+    private fun toChatMessage(record: MapRecord<String, String, String>): ChatMessage? {
+        return try {
+            val event = objectMapper.readValue(record.value[FIELD_EVENT] ?: return null, ChatEvent::class.java)
+            objectMapper.readValue(event.payload, ChatMessage::class.java)
+        } catch (e: JsonProcessingException) {
+            log.error("[Stream] 채팅 이벤트 파싱 오류 - ID: ${record.id.value}, 오류: ${e.message}")
+            null
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.snackoverflow.toolgether.domain.chat.repository
+
+import com.snackoverflow.toolgether.domain.chat.entity.ChatMessageArchive
+import org.springframework.data.domain.Pageable
+import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Modifying
+import org.springframework.data.jpa.repository.Query
+import org.springframework.data.repository.query.Param
+
+interface ChatMessageArchiveRepository : JpaRepository<ChatMessageArchive, Long> {
+
+    // (ts, id) 이전 메시지를 최신순으로 조회 (idx_chat_message_channel_ts)
+    @Query(
+        "SELECT m FROM ChatMessageArchive m WHERE m.channelName = :channelName " +
+                "AND (m.ts < :ts OR (m.ts = :ts AND m.id < :id)) ORDER BY m.ts DESC, m.id DESC"
+    )
+    fun findBefore(
+        @Param("channelName") channelName: String,
+        @Param("ts") ts: Long,
+        @Param("id") id: Long,
+        pageable: Pageable
+    ): List<ChatMessageArchive>
+
+    // 채팅방 삭제: 보관된 메시지도 사용자 기준으로 논리 삭제
+    @Modifying
+    @Query("UPDATE ChatMessageArchive m SET m.deletedSender = true WHERE m.channelName = :channelName AND m.sender = :userId")
+    fun markDeletedBySender(@Param("channelName") channelName: String, @Param("userId") userId: String): Int
+
+    @Modifying
+    @Query("UPDATE ChatMessageArchive m SET m.deletedReceiver = true WHERE m.channelName = :channelName AND m.receiver = :userId")
+    fun markDeletedByReceiver(@Param("channelName") channelName: String, @Param("userId") userId: String): Int
+}
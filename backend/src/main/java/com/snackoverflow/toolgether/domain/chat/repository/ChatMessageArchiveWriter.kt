@@ -0,0 +1,51 @@
+package com.snackoverflow.toolgether.domain.chat.repository
+
+import com.snackoverflow.toolgether.domain.chat.dto.ChatMessage
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.stereotype.Repository
+import java.sql.Timestamp
+import java.sql.Types
+import java.time.LocalDateTime
+
+/**
+ * 보관 메시지 배치 INSERT (JDBC)
+ * (채널, 시각, digest) 유니크 키에 걸리는 행은 무시하므로 같은 배치를 다시 써도 중복되지 않는다
+ */
+@Repository
+class ChatMessageArchiveWriter(
+    private val jdbcTemplate: JdbcTemplate
+) {
+    companion object {
+        private const val INSERT_IGNORE =
+            "INSERT IGNORE INTO chat_message (channel_name, ts, sender, receiver, content, sender_name, receiver_name, " +
+                    "deleted_sender, deleted_receiver, message_id, digest, archived_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)"
+    }
+
+    data class ArchivedMessage(
+        val channelName: String,
+        val ts: Long,
+        val message: ChatMessage,
+        val digest: String
+    )
+
+    fun write(messages: List<ArchivedMessage>) {
+        if (messages.isEmpty()) return
+
+        val now = Timestamp.valueOf(LocalDateTime.now())
+        jdbcTemplate.batchUpdate(INSERT_IGNORE, messages, messages.size) { ps, archived ->
+            val message = archived.message
+            ps.setString(1, archived.channelName)
+            ps.setLong(2, archived.ts)
+            ps.setString(3, message.sender)
+            ps.setString(4, message.receiver)
+            ps.setString(5, message.content)
+            ps.setString(6, message.senderName)
+            ps.setString(7, message.receiverName)
+            ps.setBoolean(8, message.deletedSender)
+            ps.setBoolean(9, message.deletedReceiver)
+            if (message.messageId.isNotBlank()) ps.setString(10, message.messageId) else ps.setNull(10, Types.VARCHAR)
+            ps.setString(11, archived.digest)
+            ps.setTimestamp(12, now)
+        }
+    }
+}
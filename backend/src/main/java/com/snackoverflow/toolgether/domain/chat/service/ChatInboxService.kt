@@ -0,0 +1,167 @@
+package com.snackoverflow.toolgether.domain.chat.service
+
+import com.fasterxml.jackson.core.JsonProcessingException
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.snackoverflow.toolgether.domain.chat.dto.ChatInboxItem
+import com.snackoverflow.toolgether.domain.chat.dto.ChatMessage
+import com.snackoverflow.toolgether.global.constants.AppConstants.PERSONAL_CHAT_PREFIX
+import org.slf4j.Logger
+import org.springframework.boot.context.event.ApplicationReadyEvent
+import org.springframework.context.event.EventListener
+import org.springframework.dao.DataAccessException
+import org.springframework.data.redis.connection.DataType
+import org.springframework.data.redis.core.RedisOperations
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.core.ScanOptions
+import org.springframework.data.redis.core.SessionCallback
+import org.springframework.data.redis.core.ZSetOperations
+import org.springframework.stereotype.Service
+import java.time.Instant
+import java.time.ZoneId
+import java.time.format.DateTimeFormatter
+
+/**
+ * 사용자별 채팅방 목록 (역색인)
+ * chat:user:{id}:channels -> 채널 이름을 마지막 메시지 시각으로 정렬한 Sorted Set
+ * chat:user:{id}:read     -> 채널별로 마지막으로 읽은 메시지 시각 (Hash)
+ *
+ * 전체 키를 KEYS 로 훑지 않고 ZREVRANGE 한 번으로 목록을 가져오고,
+ * 마지막 메시지 / 읽지 않은 메시지 수는 채널별 명령을 파이프라인으로 묶어 한 번에 조회한다
+ */
+@Service
+class ChatInboxService(
+    private val redisTemplate: RedisTemplate<String, String>,
+    private val objectMapper: ObjectMapper,
+    private val log: Logger
+) {
+
+    companion object {
+        private const val USER_PREFIX = "chat:user:"
+        private const val BACKFILL_KEY = "chat:user:index:backfilled"
+        private val RESERVED_SEGMENTS = setOf("user", "unread", "event", "archive")
+        private val FORMATTER: DateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")
+
+        fun channelsKey(userId: String) = "$USER_PREFIX$userId:channels"
+        fun readKey(userId: String) = "$USER_PREFIX$userId:read"
+    }
+
+    // 메시지 저장 파이프라인에 추가: 두 사용자의 채팅방 목록을 갱신하고, 보낸 사람은 자기 메시지까지 읽은 것으로 처리
+    fun onMessageSaved(operations: RedisOperations<String, String>, channelName: String, message: ChatMessage, score: Double) {
+        operations.opsForZSet().add(channelsKey(message.sender), channelName, score)
+        operations.opsForZSet().add(channelsKey(message.receiver), channelName, score)
+        operations.opsForHash<String, String>().put(readKey(message.sender), channelName, score.toString())
+    }
+
+    // 채팅 내역을 조회하면 마지막 메시지까지 읽은 것으로 처리
+    fun markRead(userId: String, channelName: String, lastScore: Double) {
+        redisTemplate.opsForHash<String, String>().put(readKey(userId), channelName, lastScore.toString())
+    }
+
+    // 채팅방 삭제 시 목록에서 제거
+    fun remove(userId: String, channelName: String) {
+        redisTemplate.opsForZSet().remove(channelsKey(userId), channelName)
+        redisTemplate.opsForHash<String, String>().delete(readKey(userId), channelName)
+    }
+
+    // 최근 메시지 순 채널 이름
+    fun getChannelNames(userId: String): List<String> =
+        redisTemplate.opsForZSet().reverseRange(channelsKey(userId), 0, -1)?.toList() ?: emptyList()
+
+    fun getInbox(userId: String, page: Int, size: Int): List<ChatInboxItem> {
+        require(page >= 0 && size in 1..100) { "잘못된 페이지 요청입니다." }
+
+        val start = page.toLong() * size
+        val channels = redisTemplate.opsForZSet()
+            .reverseRange(channelsKey(userId), start, start + size - 1)
+            ?.toList()
+            .orEmpty()
+        if (channels.isEmpty()) return emptyList()
+
+        val readMarkers = redisTemplate.opsForHash<String, String>().multiGet(readKey(userId), channels)
+
+        // 채널마다 [마지막 메시지, 읽지 않은 메시지 수] 두 개의 결과
+        val results = redisTemplate.executePipelined(object : SessionCallback<Any?> {
+            @Suppress("UNCHECKED_CAST")
+            override fun <K, V> execute(operations: RedisOperations<K, V>): Any? {
+                val ops = operations as RedisOperations<String, String>
+                channels.forEachIndexed { i, channel ->
+                    val key = PERSONAL_CHAT_PREFIX + channel
+                    val lastRead = readMarkers.getOrNull(i)?.toDoubleOrNull()
+                    ops.opsForZSet().reverseRangeWithScores(key, 0, 0)
+                    ops.opsForZSet().count(key, lastRead?.let { Math.nextUp(it) } ?: Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY)
+                }
+                return null
+            }
+        })
+
+        return channels.mapIndexed { i, channel ->
+            @Suppress("UNCHECKED_CAST")
+            val last = (results[i * 2] as? Set<ZSetOperations.TypedTuple<String>>)?.firstOrNull()
+            val unread = (results[i * 2 + 1] as? Long) ?: 0L
+            toInboxItem(userId, channel, last, unread)
+        }
+    }
+
+    private fun toInboxItem(
+        userId: String,
+        channel: String,
+        last: ZSetOperations.TypedTuple<String>?,
+        unread: Long
+    ): ChatInboxItem {
+        val message = last?.value?.let { parse(it) }
+        val partnerId = message?.let { if (it.sender == userId) it.receiver else it.sender }
+            ?: channel.split(":").firstOrNull { it != userId }
+            ?: userId
+        val partnerName = message?.let { if (it.sender == userId) it.receiverName else it.senderName }
+        val deletedForMe = message != null &&
+                ((message.sender == userId && message.deletedSender) || (message.receiver == userId && message.deletedReceiver))
+
+        return ChatInboxItem(
+            channelName = channel,
+            partnerId = partnerId,
+            partnerName = partnerName,
+            lastMessage = if (deletedForMe) null else message?.content,
+            lastMessageAt = last?.score?.let { toTimestamp(it) },
+            unreadCount = unread
+        )
+    }
+
+    /**
+     * 역색인이 생기기 전에 저장된 채널을 한 번만 등록 (서버 여러 대가 떠도 한 대만 실행)
+     * KEYS 대신 SCAN 으로 조금씩 훑어 Redis 를 막지 않는다
+     */
+    @EventListener(ApplicationReadyEvent::class)
+    fun backfill() {
+        try {
+            if (redisTemplate.opsForValue().setIfAbsent(BACKFILL_KEY, Instant.now().toString()) != true) return
+
+            var count = 0
+            redisTemplate.scan(ScanOptions.scanOptions().match("$PERSONAL_CHAT_PREFIX*").count(1000).build()).use { cursor ->
+                cursor.forEach { key ->
+                    val parts = key.removePrefix(PERSONAL_CHAT_PREFIX).split(":")
+                    if (parts.size != 2 || parts[0] in RESERVED_SEGMENTS) return@forEach
+                    if (redisTemplate.type(key) != DataType.ZSET) return@forEach
+
+                    val score = redisTemplate.opsForZSet().reverseRangeWithScores(key, 0, 0)?.firstOrNull()?.score ?: return@forEach
+                    val channel = "${parts[0]}:${parts[1]}"
+                    parts.forEach { userId -> redisTemplate.opsForZSet().add(channelsKey(userId), channel, score) }
+                    count++
+                }
+            }
+            log.info("채팅방 목록 역색인 등록 완료: {}개 채널", count)
+        } catch (e: DataAccessException) {
+            runCatching { redisTemplate.delete(BACKFILL_KEY) }
+            log.warn("채팅방 목록 역색인 등록 실패: {}", e.message)
+        }
+    }
+
+    private fun parse(json: String): ChatMessage? = try {
+        objectMapper.readValue(json, ChatMessage::class.java)
+    } catch (e: JsonProcessingException) {
+        log.error("채팅방 목록 마지막 메시지 파싱 오류: ${e.message}")
+        null
+    }
+
+    private fun toTimestamp(score: Double): String =
+        Instant.ofEpochMilli((score * 1000).toLong()).atZone(ZoneId.systemDefault()).toLocalDateTime().format(FORMATTER)
+}
@@ -2,13 +2,20 @@ package com.snackoverflow.toolgether.domain.chat.service
 
 import com.fasterxml.jackson.core.JsonProcessingException
 import com.fasterxml.jackson.databind.ObjectMapper
+import com.snackoverflow.toolgether.domain.chat.archive.ChatArchiver
+import com.snackoverflow.toolgether.domain.chat.dto.ChatHistoryPage
+import com.snackoverflow.toolgether.domain.chat.dto.ChatInboxItem
 import com.snackoverflow.toolgether.domain.chat.dto.ChatMessage
-import com.snackoverflow.toolgether.domain.chat.redis.RedisPubSubEventPublisher.Companion.CHAT_EVENT_PREFIX
+import com.snackoverflow.toolgether.domain.chat.entity.ChatMessageArchive
+import com.snackoverflow.toolgether.domain.chat.repository.ChatMessageArchiveRepository
 import com.snackoverflow.toolgether.global.constants.AppConstants.PERSONAL_CHAT_PREFIX
 import com.snackoverflow.toolgether.global.exception.ErrorCode
 import com.snackoverflow.toolgether.global.exception.ServiceException
 import org.slf4j.Logger
+import org.springframework.data.domain.PageRequest
+import org.springframework.data.redis.core.RedisOperations
 import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.core.SessionCallback
 import org.springframework.data.redis.core.ZSetOperations
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
@@ -17,43 +24,63 @@ import java.time.LocalDateTime
 import java.time.ZoneId
 import java.time.format.DateTimeFormatter
 import java.util.concurrent.TimeUnit
+import kotlin.math.roundToLong
 
 @Service
 @Transactional(readOnly = true)
 class ChatService(
     private val redisTemplate: RedisTemplate<String, String>,
     private val objectMapper: ObjectMapper,
+    private val chatInboxService: ChatInboxService,
+    private val chatArchiver: ChatArchiver,
+    private val chatMessageArchiveRepository: ChatMessageArchiveRepository,
     private val log: Logger
 ) {
 
+    companion object {
+        private const val MAX_HISTORY_PAGE_SIZE = 100
+        private const val ARCHIVE_CURSOR_PREFIX = "archive:"
+    }
+
     @Transactional
     fun saveMessage(channelName: String, chatMessage: ChatMessage) {
         try {
             val messageData = createMessageData(chatMessage)
             val jsonMessage = objectMapper.writeValueAsString(messageData)
             val redisKey = PERSONAL_CHAT_PREFIX + channelName
+            val score = timestampConvert(chatMessage.timeStamp)
 
-            // Redis Sorted Set에 메시지 저장
-            redisTemplate.opsForZSet().add(
-                "$PERSONAL_CHAT_PREFIX$channelName",
-                jsonMessage,
-                timestampConvert(chatMessage.timeStamp)
-            )
+            // 저장 / 채팅방 목록 갱신을 파이프라인 한 번으로 실행
+            redisTemplate.executePipelined(object : SessionCallback<Any?> {
+                @Suppress("UNCHECKED_CAST")
+                override fun <K, V> execute(operations: RedisOperations<K, V>): Any? {
+                    val ops = operations as RedisOperations<String, String>
+
+                    // Redis Sorted Set에 메시지 저장 (messageId 가 포함된 JSON 이 멤버라 같은 메시지는 한 번만 저장됨)
+                    ops.opsForZSet().add(redisKey, jsonMessage, score)
+
+                    // 두 사용자의 채팅방 목록 갱신
+                    chatInboxService.onMessageSaved(ops, channelName, chatMessage, score)
+                    return null
+                }
+            })
+
+            // 최근 100개를 넘는 메시지는 버리지 않고 보관 대기 리스트로 옮김 (ChatArchiver 가 chat_message 테이블에 저장)
+            chatArchiver.trim(redisKey, channelName)
 
             log.info(
-                "Redis Sorted Set 저장 = 채널:{}, 내용:{}, 시간:{}",
-                channelName, jsonMessage, timestampConvert(chatMessage.timeStamp)
+                "Redis Sorted Set 저장 = 채널:{}, 메시지:{}, 시간:{}",
+                channelName, chatMessage.messageId, score
             )
-
-            redisTemplate.opsForZSet().removeRange(redisKey, 0, -101)
         } catch (e: JsonProcessingException) {
             log.error("메시지 저장 중 JSON 처리 오류 발생: ${e.message}", e)
             throw ServiceException(ErrorCode.MESSAGE_SAVE_ERROR)
         }
     }
 
+    // messageId 가 없는 메시지(도입 전에 저장된 멤버)는 예전 형식 그대로 직렬화해야 같은 멤버로 찾아 삭제할 수 있다
     private fun createMessageData(chatMessageDto: ChatMessage): Map<String, Any> {
-        return mapOf(
+        val messageData = linkedMapOf<String, Any>(
             "sender" to chatMessageDto.sender,
             "receiver" to chatMessageDto.receiver,
             "content" to chatMessageDto.content,
@@ -62,25 +89,20 @@ class ChatService(
             "deletedSender" to chatMessageDto.deletedSender,
             "deletedReceiver" to chatMessageDto.deletedReceiver
         )
+        if (chatMessageDto.messageId.isNotBlank()) {
+            messageData["messageId"] = chatMessageDto.messageId
+        }
+        return messageData
     }
 
-    // 특정 사용자의 전체 채팅 내역을 반환
+    // 특정 사용자의 채널 목록 (사용자별 채팅방 목록에서 최근 메시지 순으로 조회)
     fun getChannels(userId: String): List<String> {
-        val keys = redisTemplate.keys("$PERSONAL_CHAT_PREFIX:*")
-
-        // 키가 없거나 비었을 경우 빈 리스트 반환
-        keys?.ifEmpty { return emptyList() } ?: run {
-            log.info("사용자 $userId 의 채널이 없습니다.")
-            throw ServiceException(ErrorCode.NOT_FOUND_CHAT)
-        }
+        return chatInboxService.getChannelNames(userId)
+    }
 
-        return keys.asSequence()
-            .filter { it.contains(userId) } // userId 포함 키 필터링
-            .filter { key ->
-                redisTemplate.opsForZSet().size(key)?.let { it > 0 } ?: false // 메시지 존재 여부 확인
-            }
-            .map { it.replace(PERSONAL_CHAT_PREFIX, "") } // 접두사 제거
-            .toList()
+    // 채팅방 목록: 마지막 메시지 / 읽지 않은 메시지 수 포함
+    fun getInbox(userId: String, page: Int, size: Int): List<ChatInboxItem> {
+        return chatInboxService.getInbox(userId, page, size)
     }
 
     // 특정 채널에 대한 모든 내역을 반환
@@ -97,6 +119,9 @@ class ChatService(
             return emptyList()
         }
 
+        // 마지막 메시지까지 읽음 처리
+        messagesWithScores.lastOrNull()?.score?.let { chatInboxService.markRead(userId, channelName, it) }
+
         return messagesWithScores
             .asSequence()
             .map { tuple -> mapToChatMessage(tuple) } // Tuple -> ChatMessage 변환
@@ -105,12 +130,116 @@ class ChatService(
             .toList()
     }
 
+    /**
+     * 채팅 내역 페이지 조회 (최신 size 개, 또는 커서 이전 size 개)
+     * Redis 의 최근 메시지를 ZREVRANGEBYSCORE ... LIMIT 으로 필요한 만큼만 읽고, 모자라면 보관 테이블(chat_message)에서 이어서 읽는다
+     * 커서
+     * - Redis 구간: "점수:같은 점수에서 이미 읽은 개수" (시각이 초 단위라 같은 점수의 메시지가 여러 개일 수 있음)
+     * - 보관 구간: "archive:ts:id"
+     */
+    fun getChatHistoryPage(channelName: String, userId: String, before: String?, size: Int): ChatHistoryPage {
+        require(size in 1..MAX_HISTORY_PAGE_SIZE) { "한 번에 최대 ${MAX_HISTORY_PAGE_SIZE}개까지 조회할 수 있습니다." }
+
+        if (before != null && before.startsWith(ARCHIVE_CURSOR_PREFIX)) {
+            val (ts, id) = parseArchiveCursor(before)
+            return archivePage(channelName, userId, ts, id, size, emptyList())
+        }
+
+        val redisKey = "$PERSONAL_CHAT_PREFIX$channelName"
+        val (maxScore, skip) = before?.let { parseCursor(it) } ?: (Double.POSITIVE_INFINITY to 0L)
+
+        // 다음 페이지 존재 여부를 알기 위해 하나 더 조회 (최신 -> 오래된 순)
+        val tuples = redisTemplate.opsForZSet()
+            .reverseRangeByScoreWithScores(redisKey, Double.NEGATIVE_INFINITY, maxScore, skip, size.toLong() + 1)
+            ?.toList()
+            .orEmpty()
+
+        val hasMore = tuples.size > size
+        val page = tuples.take(size)
+
+        // 최신 페이지를 열면 마지막 메시지까지 읽음 처리
+        if (before == null) {
+            page.firstOrNull()?.score?.let { chatInboxService.markRead(userId, channelName, it) }
+        }
+
+        val messages = page
+            .asReversed()
+            .mapNotNull { mapToChatMessage(it) }
+
+        if (!hasMore) {
+            // Redis 구간을 다 읽었으면 보관된 메시지로 이어서 채움 (보관된 메시지는 Redis 의 어떤 메시지보다 오래됨)
+            val boundary = page.lastOrNull()?.score ?: maxScore
+            val boundaryTs = if (boundary.isInfinite()) Long.MAX_VALUE else (boundary * 1000).roundToLong()
+            return archivePage(channelName, userId, boundaryTs, Long.MAX_VALUE, size - page.size, messages)
+        }
+
+        val nextCursor = page.last().score!!.let { oldest ->
+            val sameScore = page.count { it.score == oldest }.toLong()
+            "$oldest:${if (oldest == maxScore) skip + sameScore else sameScore}"
+        }
+
+        return ChatHistoryPage(messages.filter { shouldIncludeMessage(userId, it) }, nextCursor, true)
+    }
+
+    // 보관 테이블에서 (ts, id) 이전 메시지를 limit 개 읽어 newer(더 최근 메시지) 앞에 붙임
+    private fun archivePage(
+        channelName: String,
+        userId: String,
+        ts: Long,
+        id: Long,
+        limit: Int,
+        newer: List<ChatMessage>
+    ): ChatHistoryPage {
+        val rows = chatMessageArchiveRepository.findBefore(channelName, ts, id, PageRequest.of(0, limit + 1))
+        val hasMore = rows.size > limit
+        val page = rows.take(limit)
+
+        val nextCursor = if (!hasMore) null else page.lastOrNull()
+            ?.let { "$ARCHIVE_CURSOR_PREFIX${it.ts}:${it.id}" }
+            ?: "$ARCHIVE_CURSOR_PREFIX$ts:$id"
+
+        val messages = page.asReversed().map { it.toChatMessage() } + newer
+        return ChatHistoryPage(messages.filter { shouldIncludeMessage(userId, it) }, nextCursor, hasMore)
+    }
+
+    private fun ChatMessageArchive.toChatMessage() = ChatMessage(
+        sender = sender,
+        receiver = receiver,
+        content = content,
+        timeStamp = convertUnixTimestampToString(ts / 1000),
+        senderName = senderName ?: "",
+        receiverName = receiverName ?: "",
+        deletedSender = deletedSender,
+        deletedReceiver = deletedReceiver,
+        messageId = messageId ?: ""
+    )
+
+    private fun parseCursor(cursor: String): Pair<Double, Long> {
+        val score = cursor.substringBeforeLast(":").toDoubleOrNull()
+        val skip = cursor.substringAfterLast(":", "").toLongOrNull()
+        require(score != null && skip != null && skip >= 0) { "잘못된 커서입니다." }
+        return score to skip
+    }
+
+    private fun parseArchiveCursor(cursor: String): Pair<Long, Long> {
+        val parts = cursor.removePrefix(ARCHIVE_CURSOR_PREFIX).split(":")
+        val ts = parts.getOrNull(0)?.toLongOrNull()
+        val id = parts.getOrNull(1)?.toLongOrNull()
+        require(parts.size == 2 && ts != null && id != null) { "잘못된 커서입니다." }
+        return ts to id
+    }
+
     // 특정 채널이 비어 있는지 확인
     private fun isChannelEmpty(redisKey: String): Boolean =
         redisTemplate.opsForZSet().size(redisKey)?.let { it == 0L } ?: true  // 메시지가 없으면 true 반환
 
+    @Transactional
     fun deleteChannelMessages(channelName: String, userId: String) {
-        val redisKey = "$CHAT_EVENT_PREFIX$channelName"
+        val redisKey = "$PERSONAL_CHAT_PREFIX$channelName"
+
+        // 보관된 메시지도 같은 기준으로 논리 삭제
+        chatMessageArchiveRepository.markDeletedBySender(channelName, userId)
+        chatMessageArchiveRepository.markDeletedByReceiver(channelName, userId)
         val chatHistory = getChatHistory(channelName, userId)
 
         if (chatHistory.isEmpty()) {
@@ -120,18 +249,22 @@ class ChatService(
 
         chatHistory.forEach { message ->
             message.run {
-                val score = timestampConvert(timeStamp)
+                // 저장할 때와 같은 방식으로 직렬화한 원본 (같은 시각의 다른 메시지는 건드리지 않도록 멤버로 삭제)
+                val original = objectMapper.writeValueAsString(createMessageData(this))
 
                 // 삭제 플래그 업데이트
                 if (userId == sender) deletedSender = true
                 if (userId == receiver) deletedReceiver = true
 
                 // Redis에서 기존 메시지 삭제 후 재저장
-                redisTemplate.opsForZSet().removeRangeByScore(redisKey, score, score)
+                redisTemplate.opsForZSet().remove(redisKey, original)
                 saveMessage(channelName, this)
             }
         }
 
+        // 다시 저장하면서 목록에 갱신되므로 마지막에 제거
+        chatInboxService.remove(userId, channelName)
+
         val allDeleted = chatHistory.all { it.deletedSender && it.deletedReceiver }
         if (allDeleted) {
             redisTemplate.expire(redisKey, 7, TimeUnit.DAYS)
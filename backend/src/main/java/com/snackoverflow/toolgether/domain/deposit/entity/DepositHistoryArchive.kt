@@ -0,0 +1,34 @@
+package com.snackoverflow.toolgether.domain.deposit.entity
+
+import jakarta.persistence.*
+import java.time.LocalDateTime
+
+// 보관된 예약의 보증금 내역 (reservation_archive 와 함께 옮김)
+@Entity
+@Table(
+    name = "deposit_history_archive",
+    indexes = [Index(name = "idx_deposit_history_archive_reservation", columnList = "reservationId")]
+)
+class DepositHistoryArchive(
+    @Id
+    var id: Long,
+
+    @Column(nullable = false)
+    var reservationId: Long,
+
+    @Column(nullable = false)
+    var userId: Long,
+
+    @Column(nullable = false)
+    var amount: Int = 0,
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    var status: DepositStatus,
+
+    @Enumerated(EnumType.STRING)
+    var returnReason: ReturnReason? = null,
+
+    @Column(nullable = false)
+    var archivedAt: LocalDateTime
+)
@@ -6,4 +6,6 @@ import java.util.*
 
 interface DepositHistoryRepository : JpaRepository<DepositHistory?, Long?> {
     fun findByReservationId(reservationId: Long): Optional<DepositHistory>
-}
\ No newline at end of file
+
+    fun findByReservationIdIn(reservationIds: Collection<Long>): List<DepositHistory>
+}
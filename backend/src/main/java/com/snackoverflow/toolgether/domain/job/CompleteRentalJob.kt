@@ -1,35 +1,31 @@
 package com.snackoverflow.toolgether.domain.job
 
-import com.snackoverflow.toolgether.domain.reservation.service.ReservationService
-import lombok.extern.slf4j.Slf4j
+import com.snackoverflow.toolgether.domain.reservation.service.RentalLifecycleService
+import org.quartz.DisallowConcurrentExecution
 import org.quartz.Job
 import org.quartz.JobExecutionContext
 import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.beans.factory.annotation.Value
 import org.springframework.stereotype.Component
 import java.time.LocalDateTime
 
+// 종료 시간이 지난 대여를 일괄로 완료 처리 (주기 실행)
+// 클러스터에서도 같은 Job 은 한 번에 한 서버에서만 실행
+@DisallowConcurrentExecution
 @Component
 class CompleteRentalJob : Job {
     @Autowired
-    private val reservationService: ReservationService? = null
+    private val rentalLifecycleService: RentalLifecycleService? = null
 
-    override fun execute(context: JobExecutionContext) {
-        val jobDataMap = context.mergedJobDataMap
-        val reservationIdObj = jobDataMap["reservationId"]
-        var reservationId: Long? = null
-
-        if (reservationIdObj is Long) {
-            reservationId = reservationIdObj
-        }
-
-        if (reservationId == null)
-            return
+    @Value("\${custom.reservation.lifecycle.batch-size:500}")
+    private val batchSize: Int = 500
 
-        // endTime이 현재 시간보다 이전인지 확인
+    override fun execute(context: JobExecutionContext) {
         val now = LocalDateTime.now()
-        val reservation = reservationService!!.findReservationByIdOrThrow(reservationId)
-        if (reservation.endTime.isBefore(now)) {
-            reservationService.completeRental(reservationId)
-        }
+
+        // 배치마다 트랜잭션을 나눠 처리, 남은 대상이 batchSize 보다 적으면 종료
+        do {
+            val processed = rentalLifecycleService!!.completeDueRentals(now, batchSize)
+        } while (processed == batchSize)
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,36 @@
+package com.snackoverflow.toolgether.domain.job
+
+import org.quartz.JobDetail
+import org.quartz.Scheduler
+import org.quartz.SchedulerException
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Qualifier
+import org.springframework.boot.context.event.ApplicationReadyEvent
+import org.springframework.context.event.EventListener
+import org.springframework.stereotype.Component
+
+/**
+ * 서버가 내려가 있던 동안 시작 / 종료 시간이 지난 예약을 기동 직후 바로 처리
+ * 다음 주기를 기다리지 않도록 두 Job 을 한 번씩 실행 (대상은 DB 에서 다시 조회하므로 놓친 예약이 모두 포함됨)
+ */
+@Component
+class RentalJobRecovery(
+    private val scheduler: Scheduler,
+    @Qualifier("startRentalJobDetail") private val startRentalJobDetail: JobDetail,
+    @Qualifier("completeRentalJobDetail") private val completeRentalJobDetail: JobDetail
+) {
+    companion object {
+        private val log = LoggerFactory.getLogger(RentalJobRecovery::class.java)
+    }
+
+    @EventListener(ApplicationReadyEvent::class)
+    fun rescanOverdueRentals() {
+        try {
+            scheduler.triggerJob(startRentalJobDetail.key)
+            scheduler.triggerJob(completeRentalJobDetail.key)
+            log.info("기동 시 지난 대여 시작 / 종료 처리를 요청했습니다.")
+        } catch (e: SchedulerException) {
+            log.error("기동 시 대여 시작 / 종료 처리 요청에 실패했습니다.", e)
+        }
+    }
+}
@@ -1,34 +1,31 @@
 package com.snackoverflow.toolgether.domain.job
 
-import com.snackoverflow.toolgether.domain.reservation.service.ReservationService
+import com.snackoverflow.toolgether.domain.reservation.service.RentalLifecycleService
+import org.quartz.DisallowConcurrentExecution
 import org.quartz.Job
 import org.quartz.JobExecutionContext
 import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.beans.factory.annotation.Value
 import org.springframework.stereotype.Component
 import java.time.LocalDateTime
 
+// 시작 시간이 지난 승인 예약을 일괄로 대여 중 상태로 변경 (주기 실행)
+// 클러스터에서도 같은 Job 은 한 번에 한 서버에서만 실행
+@DisallowConcurrentExecution
 @Component
 class StartRentalJob : Job {
     @Autowired
-    private val reservationService: ReservationService? = null
-
-    override fun execute(context: JobExecutionContext) {
-        val jobDataMap = context.mergedJobDataMap // 수정: getMergedJobDataMap() 사용
-        val reservationIdObj = jobDataMap["reservationId"]
-        var reservationId: Long? = null
-        if (reservationIdObj is Long) {
-            reservationId = reservationIdObj
-        }
+    private val rentalLifecycleService: RentalLifecycleService? = null
 
+    @Value("\${custom.reservation.lifecycle.batch-size:500}")
+    private val batchSize: Int = 500
 
-        if (reservationId == null)
-            return  // null이면 작업 중단
-
+    override fun execute(context: JobExecutionContext) {
         val now = LocalDateTime.now()
-        val reservation = reservationService!!.findReservationByIdOrThrow(reservationId)
 
-        if (reservation.startTime.isBefore(now)) {
-            reservationService.startRental(reservationId)
-        }
+        // 배치마다 트랜잭션을 나눠 처리, 남은 대상이 batchSize 보다 적으면 종료
+        do {
+            val processed = rentalLifecycleService!!.startDueRentals(now, batchSize)
+        } while (processed == batchSize)
     }
-}
\ No newline at end of file
+}
@@ -4,16 +4,19 @@ import com.snackoverflow.toolgether.domain.reservation.controller.SseController
 import lombok.extern.slf4j.Slf4j
 import mu.KotlinLogging
 import org.slf4j.Logger
-import org.springframework.context.ApplicationListener
 import org.springframework.stereotype.Component
+import org.springframework.transaction.event.TransactionPhase
+import org.springframework.transaction.event.TransactionalEventListener
 
 @Component
 class SseNotificationListener(
     private val sseController: SseController,
     private val log: Logger
-) : ApplicationListener<NotificationCreatedEvent> {
+) {
 
-    override fun onApplicationEvent(event: NotificationCreatedEvent) {
+    // 알림이 커밋된 뒤에만 전송 (롤백된 알림은 보내지 않으므로, 롤백 후 다시 처리해도 한 번만 전송)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    fun onNotificationCreated(event: NotificationCreatedEvent) {
         val userId = event.userId
         val message = event.message
         log.info("Received NotificationCreatedEvent. Sending SSE notification to user $userId, $message")
@@ -0,0 +1,118 @@
+package com.snackoverflow.toolgether.domain.post.cache
+
+import com.fasterxml.jackson.core.JsonProcessingException
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
+import com.snackoverflow.toolgether.domain.post.event.PostChangedEvent
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics
+import jakarta.annotation.PostConstruct
+import org.slf4j.LoggerFactory
+import org.springframework.dao.DataAccessException
+import org.springframework.data.redis.connection.Message
+import org.springframework.data.redis.connection.MessageListener
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.listener.ChannelTopic
+import org.springframework.data.redis.listener.RedisMessageListenerContainer
+import org.springframework.stereotype.Component
+import org.springframework.transaction.event.TransactionalEventListener
+import java.time.Duration
+
+/**
+ * 게시물 상세 조회 캐시
+ * L1: 서버별 로컬 캐시 (Caffeine, 크기 제한 LRU) / L2: Redis 공유 캐시
+ * 게시물이 수정 / 삭제되면 커밋 이후 Redis pub/sub 으로 모든 서버의 L1 을 비운다
+ */
+@Component
+class PostDetailCache(
+    private val redisTemplate: RedisTemplate<String, String>,
+    private val listenerContainer: RedisMessageListenerContainer,
+    private val objectMapper: ObjectMapper,
+    private val meterRegistry: MeterRegistry
+) : MessageListener {
+    companion object {
+        private val log = LoggerFactory.getLogger(PostDetailCache::class.java)
+
+        const val INVALIDATION_CHANNEL = "post:cache:invalidate"
+        private const val KEY_PREFIX = "post:detail:"
+        private const val LOCAL_MAXIMUM_SIZE = 10_000L
+        private val LOCAL_TTL: Duration = Duration.ofMinutes(1) // 무효화 메시지를 놓쳐도 오래 남지 않도록
+        private val REDIS_TTL: Duration = Duration.ofMinutes(10)
+    }
+
+    private val localCache: Cache<Long, PostDetailSnapshot> = Caffeine.newBuilder()
+        .maximumSize(LOCAL_MAXIMUM_SIZE)
+        .expireAfterWrite(LOCAL_TTL)
+        .recordStats()
+        .build()
+
+    private lateinit var redisHits: Counter
+    private lateinit var redisMisses: Counter
+
+    @PostConstruct
+    fun init() {
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "post.detail.local")
+        redisHits = meterRegistry.counter("post.detail.redis", "result", "hit")
+        redisMisses = meterRegistry.counter("post.detail.redis", "result", "miss")
+
+        listenerContainer.addMessageListener(this, ChannelTopic(INVALIDATION_CHANNEL))
+    }
+
+    fun getOrLoad(postId: Long, loader: () -> PostDetailSnapshot): PostDetailSnapshot {
+        localCache.getIfPresent(postId)?.let { return it }
+
+        val snapshot = readRedis(postId)?.also { redisHits.increment() }
+            ?: loader().also {
+                redisMisses.increment()
+                writeRedis(postId, it)
+            }
+
+        localCache.put(postId, snapshot)
+        return snapshot
+    }
+
+    // 수정 / 삭제가 커밋된 뒤에 무효화 (커밋 전에 비우면 이전 값이 다시 캐시될 수 있음)
+    @TransactionalEventListener
+    fun onPostChanged(event: PostChangedEvent) {
+        if (event.type == PostChangedEvent.ChangeType.CREATED) return
+        evict(event.postId)
+    }
+
+    fun evict(postId: Long) {
+        localCache.invalidate(postId)
+        try {
+            redisTemplate.delete(KEY_PREFIX + postId)
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, postId.toString())
+        } catch (e: DataAccessException) {
+            log.warn("게시물 캐시 무효화 실패: postId={}, {}", postId, e.message)
+        }
+    }
+
+    // 다른 서버에서 보낸 무효화 메시지
+    override fun onMessage(message: Message, pattern: ByteArray?) {
+        String(message.body).toLongOrNull()?.let { localCache.invalidate(it) }
+    }
+
+    private fun readRedis(postId: Long): PostDetailSnapshot? {
+        return try {
+            redisTemplate.opsForValue()[KEY_PREFIX + postId]
+                ?.let { objectMapper.readValue(it, PostDetailSnapshot::class.java) }
+        } catch (e: DataAccessException) {
+            log.warn("게시물 캐시 조회 실패: postId={}, {}", postId, e.message)
+            null
+        } catch (e: JsonProcessingException) {
+            log.warn("게시물 캐시 역직렬화 실패: postId={}, {}", postId, e.message)
+            null
+        }
+    }
+
+    private fun writeRedis(postId: Long, snapshot: PostDetailSnapshot) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + postId, objectMapper.writeValueAsString(snapshot), REDIS_TTL)
+        } catch (e: DataAccessException) {
+            log.warn("게시물 캐시 저장 실패: postId={}, {}", postId, e.message)
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.snackoverflow.toolgether.domain.post.cache
+
+import com.snackoverflow.toolgether.domain.post.dto.PostResponse
+import com.snackoverflow.toolgether.domain.post.entity.Post
+import com.snackoverflow.toolgether.domain.post.entity.enums.Category
+import com.snackoverflow.toolgether.domain.post.entity.enums.PriceType
+import com.snackoverflow.toolgether.domain.postavailability.entity.PostAvailability
+import com.snackoverflow.toolgether.domain.user.entity.User
+import java.time.LocalDateTime
+
+/**
+ * 게시물 상세 캐시에 저장하는 값
+ * 엔티티 그래프 대신 응답에 필요한 필드만 담아 직렬화하고, 꺼낼 때 PostResponse 로 다시 조립한다
+ */
+data class PostDetailSnapshot(
+    val id: Long,
+    val userId: Long?,
+    val nickname: String?,
+    val title: String,
+    val content: String,
+    val category: Category,
+    val priceType: PriceType,
+    val price: Int,
+    val latitude: Double,
+    val longitude: Double,
+    val createdAt: LocalDateTime?,
+    val viewCount: Int, // 적재 시점 값 (상세 응답에서는 DB 의 현재 조회수로 교체)
+    val images: Set<String>,
+    val availabilities: List<Availability>
+) {
+    data class Availability(
+        val date: LocalDateTime?,
+        val recurrenceDays: Int,
+        val startTime: LocalDateTime,
+        val endTime: LocalDateTime,
+        val isRecurring: Boolean
+    )
+
+    fun toResponse(): PostResponse {
+        val post = Post(
+            id = id,
+            user = User(id = userId, nickname = nickname),
+            title = title,
+            content = content,
+            createdAt = createdAt,
+            category = category,
+            priceType = priceType,
+            price = price,
+            latitude = latitude,
+            longitude = longitude,
+            viewCount = viewCount
+        )
+
+        val postAvailabilities = availabilities.map {
+            PostAvailability(
+                post = post,
+                date = it.date,
+                recurrence_days = it.recurrenceDays,
+                startTime = it.startTime,
+                endTime = it.endTime,
+                isRecurring = it.isRecurring
+            )
+        }.toSet()
+
+        return PostResponse(post = post, images = images, availabilities = postAvailabilities)
+    }
+
+    companion object {
+        @JvmStatic
+        fun of(post: Post): PostDetailSnapshot =
+            of(post, post.postImages.map { it.imageUrl }.toSet(), post.postAvailabilities)
+
+        // 검색 결과처럼 이미 조립된 응답을 캐시할 때
+        @JvmStatic
+        fun of(response: PostResponse): PostDetailSnapshot =
+            of(response.post, response.images, response.availabilities.map { it.postAvailability })
+
+        private fun of(post: Post, images: Set<String>, availabilities: Collection<PostAvailability>) = PostDetailSnapshot(
+            id = post.id!!,
+            userId = post.user?.id,
+            nickname = post.user?.nickname,
+            title = post.title,
+            content = post.content,
+            category = post.category,
+            priceType = post.priceType,
+            price = post.price,
+            latitude = post.latitude,
+            longitude = post.longitude,
+            createdAt = post.createdAt,
+            viewCount = post.viewCount,
+            images = images,
+            availabilities = availabilities.map {
+                Availability(
+                    date = it.date,
+                    recurrenceDays = it.recurrence_days,
+                    startTime = it.startTime,
+                    endTime = it.endTime,
+                    isRecurring = it.isRecurring
+                )
+            }
+        )
+    }
+}
@@ -0,0 +1,44 @@
+package com.snackoverflow.toolgether.domain.post.cache
+
+import org.slf4j.LoggerFactory
+import org.springframework.dao.DataAccessException
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.stereotype.Component
+import java.time.Duration
+
+/**
+ * 게시물 검색 전체 개수 캐시
+ * 무한 스크롤에서 같은 조건으로 페이지를 넘길 때마다 count 쿼리가 실행되지 않도록 짧은 TTL 로 보관
+ */
+@Component
+class PostSearchCountCache(
+    private val redisTemplate: RedisTemplate<String, String>
+) {
+    companion object {
+        private val log = LoggerFactory.getLogger(PostSearchCountCache::class.java)
+        private const val KEY_PREFIX = "post:search:count:"
+        private val TTL: Duration = Duration.ofSeconds(30)
+    }
+
+    fun getOrLoad(filterKey: String, loader: () -> Long): Long {
+        val key = KEY_PREFIX + filterKey
+
+        val cached = try {
+            redisTemplate.opsForValue()[key]?.toLongOrNull()
+        } catch (e: DataAccessException) {
+            log.warn("검색 개수 캐시 조회 실패 - DB 에서 직접 조회합니다: {}", e.message)
+            return loader()
+        }
+        if (cached != null) {
+            return cached
+        }
+
+        val count = loader()
+        try {
+            redisTemplate.opsForValue().set(key, count.toString(), TTL)
+        } catch (e: DataAccessException) {
+            log.warn("검색 개수 캐시 저장 실패: {}", e.message)
+        }
+        return count
+    }
+}
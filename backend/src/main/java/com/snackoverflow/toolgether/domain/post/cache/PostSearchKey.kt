@@ -0,0 +1,49 @@
+package com.snackoverflow.toolgether.domain.post.cache
+
+import com.snackoverflow.toolgether.domain.post.dto.PostSearchRequest
+import com.snackoverflow.toolgether.global.util.GeoHashUtil
+import org.springframework.util.DigestUtils
+import java.nio.charset.StandardCharsets
+
+/**
+ * 게시물 검색 조건을 캐시 키로 정규화
+ * - 키워드: 앞뒤 공백 제거, 연속 공백 축소, 소문자
+ * - 위치: geohash 셀로 양자화 (같은 동네의 요청은 같은 키)
+ *
+ * 같은 키의 결과가 같은 조건으로 조회되도록, 검색 / 개수 쿼리는 요청 좌표 대신 snap() 으로 맞춘 셀 중심 좌표를 사용한다
+ * 셀 중심으로 옮기면 검색 중심이 최대 약 0.67km 움직이므로, 그 차이가 결과를 크게 바꾸는 작은 반경은 캐시하지 않는다
+ */
+object PostSearchKey {
+    const val CELL_PRECISION = 6 // 약 1.2km x 0.6km
+    const val MIN_CACHED_DISTANCE_KM = 5.0 // 이보다 작은 반경은 요청 좌표 그대로 조회 (1km, 3km 검색)
+
+    private val WHITESPACE = Regex("\\s+")
+
+    // 셀 중심 좌표로 조회해서 캐시를 공유해도 되는 검색인지
+    @JvmStatic
+    fun isCacheable(request: PostSearchRequest): Boolean = request.distance >= MIN_CACHED_DISTANCE_KM
+
+    // 좌표를 키에 들어가는 셀의 중심으로 맞춤 [위도, 경도]
+    @JvmStatic
+    fun snap(latitude: Double, longitude: Double): DoubleArray =
+        GeoHashUtil.center(GeoHashUtil.encode(latitude, longitude, CELL_PRECISION))
+
+    @JvmStatic
+    fun filterKey(request: PostSearchRequest, latitude: Double, longitude: Double): String {
+        val keyword = request.keyword.trim().replace(WHITESPACE, " ").lowercase()
+        val cell = GeoHashUtil.encode(latitude, longitude, CELL_PRECISION)
+
+        val normalized = listOf(
+            keyword,
+            request.category.name,
+            request.priceType.name,
+            request.minPrice.toString(),
+            request.maxPrice.toString(),
+            request.distance.toString(),
+            cell
+        ).joinToString("|")
+
+        // 키워드 길이에 상관없이 키 길이를 고정
+        return DigestUtils.md5DigestAsHex(normalized.toByteArray(StandardCharsets.UTF_8))
+    }
+}
@@ -0,0 +1,126 @@
+package com.snackoverflow.toolgether.domain.post.cache
+
+import com.fasterxml.jackson.core.JsonProcessingException
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.snackoverflow.toolgether.domain.post.dto.PostResponse
+import com.snackoverflow.toolgether.domain.post.dto.PostSearchRequest
+import com.snackoverflow.toolgether.domain.post.event.PostChangedEvent
+import com.snackoverflow.toolgether.global.util.GeoHashUtil
+import org.slf4j.LoggerFactory
+import org.springframework.dao.DataAccessException
+import org.springframework.data.domain.Page
+import org.springframework.data.domain.PageImpl
+import org.springframework.data.domain.Pageable
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.stereotype.Component
+import org.springframework.transaction.event.TransactionalEventListener
+import java.time.Duration
+
+/**
+ * 게시물 검색 결과 캐시
+ * 키: 정규화된 검색 조건 + 위치 셀 + 페이지 (같은 동네에서 같은 조건으로 보는 홈 피드는 같은 키)
+ *
+ * 무효화: 결과를 저장할 때 검색 반경이 걸치는 geohash 셀마다 키를 등록해 두고,
+ * 게시물이 변경되면 변경 전 / 후 위치의 셀에 등록된 키만 삭제한다
+ * 반경이 커서 셀로 표현할 수 없는 검색은 전역 목록에 등록 -> 모든 게시물 변경에 무효화
+ * 목록은 만료 시각을 점수로 하는 Sorted Set 이고, 등록할 때마다 이미 만료된 키를 정리한다
+ * (조회가 계속되는 셀 / 전역 목록은 TTL 이 계속 연장되므로 정리하지 않으면 끝없이 커짐)
+ */
+@Component
+class PostSearchResultCache(
+    private val redisTemplate: RedisTemplate<String, String>,
+    private val objectMapper: ObjectMapper
+) {
+    companion object {
+        private val log = LoggerFactory.getLogger(PostSearchResultCache::class.java)
+
+        const val INVALIDATION_PRECISION = 5 // 약 4.9km x 4.9km
+        private const val KEY_PREFIX = "post:search:result:"
+        private const val CELL_INDEX_PREFIX = "post:search:cells:"
+        private const val GLOBAL_INDEX_KEY = CELL_INDEX_PREFIX + "global"
+        private val TTL: Duration = Duration.ofSeconds(30)
+        private val INDEX_TTL: Duration = TTL.multipliedBy(2) // 등록된 키보다 오래 남도록
+    }
+
+    // 캐시에 저장하는 검색 결과 한 페이지
+    data class CachedPage(
+        val content: List<PostDetailSnapshot>,
+        val totalElements: Long
+    )
+
+    // latitude / longitude 는 PostSearchKey.snap() 으로 맞춘 좌표 (loader 도 같은 좌표로 조회해야 함)
+    fun getOrLoad(
+        request: PostSearchRequest,
+        latitude: Double,
+        longitude: Double,
+        pageable: Pageable,
+        loader: () -> Page<PostResponse>
+    ): Page<PostResponse> {
+        val key = KEY_PREFIX + PostSearchKey.filterKey(request, latitude, longitude) +
+                ":" + pageable.pageNumber + ":" + pageable.pageSize
+
+        read(key)?.let { cached ->
+            return PageImpl(cached.content.map { it.toResponse() }, pageable, cached.totalElements)
+        }
+
+        val page = loader()
+        write(key, CachedPage(page.content.map { PostDetailSnapshot.of(it) }, page.totalElements), indexKeys(request, latitude, longitude))
+        return page
+    }
+
+    @TransactionalEventListener
+    fun onPostChanged(event: PostChangedEvent) {
+        val indexKeys = event.geoHashes
+            .map { CELL_INDEX_PREFIX + it.take(INVALIDATION_PRECISION) }
+            .toMutableSet()
+        indexKeys.add(GLOBAL_INDEX_KEY)
+
+        try {
+            indexKeys.forEach { indexKey ->
+                val keys = redisTemplate.opsForZSet().range(indexKey, 0, -1).orEmpty()
+                redisTemplate.delete(keys + indexKey)
+            }
+        } catch (e: DataAccessException) {
+            log.warn("검색 결과 캐시 무효화 실패: postId={}, {}", event.postId, e.message)
+        }
+    }
+
+    // 이 검색 결과가 영향을 받는 셀 목록 (반경이 너무 크면 전역)
+    private fun indexKeys(request: PostSearchRequest, latitude: Double, longitude: Double): Set<String> {
+        val distance = request.distance
+        if (GeoHashUtil.precisionFor(latitude, distance) < INVALIDATION_PRECISION) return setOf(GLOBAL_INDEX_KEY)
+
+        // 중심 셀 + 인접 8개 셀이 반경을 모두 덮으므로 각 셀의 상위 셀에 등록
+        return GeoHashUtil.coveringCells(latitude, longitude, distance)
+            .map { CELL_INDEX_PREFIX + it.take(INVALIDATION_PRECISION) }
+            .toSet()
+    }
+
+    private fun read(key: String): CachedPage? {
+        return try {
+            redisTemplate.opsForValue()[key]?.let { objectMapper.readValue(it, CachedPage::class.java) }
+        } catch (e: DataAccessException) {
+            log.warn("검색 결과 캐시 조회 실패: {}", e.message)
+            null
+        } catch (e: JsonProcessingException) {
+            log.warn("검색 결과 캐시 역직렬화 실패: {}", e.message)
+            null
+        }
+    }
+
+    private fun write(key: String, page: CachedPage, indexKeys: Set<String>) {
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(page), TTL)
+
+            val now = System.currentTimeMillis()
+            val expiresAt = (now + TTL.toMillis()).toDouble()
+            indexKeys.forEach { indexKey ->
+                redisTemplate.opsForZSet().add(indexKey, key, expiresAt)
+                redisTemplate.opsForZSet().removeRangeByScore(indexKey, Double.NEGATIVE_INFINITY, now.toDouble())
+                redisTemplate.expire(indexKey, INDEX_TTL)
+            }
+        } catch (e: DataAccessException) {
+            log.warn("검색 결과 캐시 저장 실패: {}", e.message)
+        }
+    }
+}
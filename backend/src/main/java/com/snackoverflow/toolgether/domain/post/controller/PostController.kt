@@ -1,8 +1,10 @@
 package com.snackoverflow.toolgether.domain.post.controller
 
 import com.snackoverflow.toolgether.domain.post.dto.PostCreateRequest
+import com.snackoverflow.toolgether.domain.post.dto.PostCursorResponse
 import com.snackoverflow.toolgether.domain.post.dto.PostResponse
 import com.snackoverflow.toolgether.domain.post.dto.PostSearchRequest
+import com.snackoverflow.toolgether.domain.post.dto.PostSortType
 import com.snackoverflow.toolgether.domain.post.dto.PostUpdateRequest
 import com.snackoverflow.toolgether.domain.post.service.PostService
 import com.snackoverflow.toolgether.domain.user.entity.User
@@ -102,4 +104,19 @@ class PostController(
             postService.searchPosts(request, pageable)
         )
     }
+
+    // 무한 스크롤용 커서 기반 검색
+    @GetMapping("/search/cursor")
+    fun searchPostsByCursor(
+        @ModelAttribute request: PostSearchRequest,
+        @RequestParam(required = false) cursor: String?,
+        @RequestParam(defaultValue = "20") size: Int,
+        @RequestParam(defaultValue = "LATEST") sort: PostSortType
+    ): RsData<PostCursorResponse> {
+        return RsData(
+            "200-1",
+            "게시물 검색 결과입니다.",
+            postService.searchPostsByCursor(request, cursor, size, sort)
+        )
+    }
 }
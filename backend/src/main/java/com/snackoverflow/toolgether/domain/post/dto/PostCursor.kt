@@ -0,0 +1,51 @@
+package com.snackoverflow.toolgether.domain.post.dto
+
+import java.nio.charset.StandardCharsets
+import java.time.LocalDateTime
+import java.util.*
+
+/**
+ * 커서 기반 페이징의 위치 정보
+ * 마지막으로 내려준 게시물의 정렬 값과 ID 를 담아 다음 페이지를 WHERE 조건으로 찾는다
+ * 클라이언트에는 Base64 로 인코딩된 불투명 문자열로만 노출
+ */
+data class PostCursor(
+    val sort: PostSortType,
+    val sortValue: String, // LATEST: createdAt (ISO-8601), DISTANCE: 거리 (m, 정수)
+    val id: Long
+) {
+    val createdAt: LocalDateTime
+        get() = LocalDateTime.parse(sortValue)
+
+    val distanceMeters: Long
+        get() = sortValue.toLong()
+
+    fun encode(): String {
+        val raw = "${sort.name}|$sortValue|$id"
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toByteArray(StandardCharsets.UTF_8))
+    }
+
+    companion object {
+        @JvmStatic
+        fun of(createdAt: LocalDateTime, id: Long) = PostCursor(PostSortType.LATEST, createdAt.toString(), id)
+
+        @JvmStatic
+        fun of(distanceMeters: Long, id: Long) = PostCursor(PostSortType.DISTANCE, distanceMeters.toString(), id)
+
+        @JvmStatic
+        fun decode(cursor: String, expectedSort: PostSortType): PostCursor {
+            try {
+                val raw = String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                val (sort, sortValue, id) = raw.split("|", limit = 3)
+                val decoded = PostCursor(PostSortType.valueOf(sort), sortValue, id.toLong())
+
+                // 정렬 기준과 값 형식 검증
+                check(decoded.sort == expectedSort)
+                if (decoded.sort == PostSortType.LATEST) decoded.createdAt else decoded.distanceMeters
+                return decoded
+            } catch (e: RuntimeException) {
+                throw IllegalArgumentException("잘못된 커서입니다.", e)
+            }
+        }
+    }
+}
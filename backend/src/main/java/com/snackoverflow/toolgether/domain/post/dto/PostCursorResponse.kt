@@ -0,0 +1,7 @@
+package com.snackoverflow.toolgether.domain.post.dto
+
+data class PostCursorResponse(
+    val content: List<PostResponse>, // 현재 페이지 게시물
+    val nextCursor: String?, // 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+    val hasNext: Boolean // 다음 페이지 존재 여부
+)
@@ -24,7 +24,7 @@ class PostResponse @JvmOverloads constructor(
     val latitude = post.latitude
     val longitude = post.longitude
     val createdAt: String? // 날짜 포맷 적용
-    val viewCount = post.viewCount
+    var viewCount = post.viewCount // 상세 조회에서 캐시 밖의 현재 조회수로 바꾸기 위해 var
     val availabilities: Set<PostAvailabilityResponse>
 
     companion object {
@@ -0,0 +1,6 @@
+package com.snackoverflow.toolgether.domain.post.dto
+
+enum class PostSortType {
+    LATEST, // 최신순 (createdAt, id)
+    DISTANCE // 가까운 순 (distance, id)
+}
@@ -5,6 +5,7 @@ import com.snackoverflow.toolgether.domain.post.entity.enums.PriceType
 import com.snackoverflow.toolgether.domain.postavailability.entity.PostAvailability
 import com.snackoverflow.toolgether.domain.postimage.entity.PostImage
 import com.snackoverflow.toolgether.domain.user.entity.User
+import com.snackoverflow.toolgether.global.util.GeoHashUtil
 import jakarta.persistence.*
 import org.hibernate.annotations.BatchSize
 import org.hibernate.annotations.UpdateTimestamp
@@ -14,6 +15,13 @@ import java.time.LocalDateTime
 
 @Entity
 @EntityListeners(AuditingEntityListener::class)
+@Table(
+    indexes = [
+        Index(name = "idx_post_geo_hash", columnList = "geoHash"), // 반경 검색 후보 셀 조회
+        Index(name = "idx_post_lat_lon", columnList = "latitude, longitude"), // 바운딩 박스 조회
+        Index(name = "idx_post_created_at_id", columnList = "createdAt, id") // 최신순 커서 페이징
+    ]
+)
 class Post(
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -50,6 +58,9 @@ class Post(
     @BatchSize(size = 10)
     var postAvailabilities: MutableSet<PostAvailability> = HashSet() // 스케줄
 ) {
+    @Column(length = GeoHashUtil.MAX_PRECISION)
+    var geoHash: String? = GeoHashUtil.encode(latitude, longitude) // 위치 셀 (위도 / 경도와 함께 갱신)
+
     /* TODO : 마이그레이션 이후 삭제 */
     // 파라미터 없는 기본 생성자 추가
     constructor() : this(
@@ -88,6 +99,7 @@ class Post(
         this.price = price
         this.latitude = latitude
         this.longitude = longitude
+        this.geoHash = GeoHashUtil.encode(latitude, longitude)
         this.viewCount = viewCount
     }
 
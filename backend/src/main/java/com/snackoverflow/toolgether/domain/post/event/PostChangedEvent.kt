@@ -0,0 +1,15 @@
+package com.snackoverflow.toolgether.domain.post.event
+
+import org.springframework.context.ApplicationEvent
+
+// 게시물 생성 / 수정 / 삭제 이벤트 (검색 인덱스, 캐시 갱신용)
+class PostChangedEvent(
+    source: Any,
+    val postId: Long,
+    val type: ChangeType,
+    val geoHashes: Set<String> = emptySet() // 변경 전 / 후 위치 (위치별 검색 캐시 무효화용)
+) : ApplicationEvent(source) {
+    enum class ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+}
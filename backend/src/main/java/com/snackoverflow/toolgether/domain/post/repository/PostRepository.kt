@@ -2,9 +2,33 @@ package com.snackoverflow.toolgether.domain.post.repository
 
 import com.snackoverflow.toolgether.domain.post.entity.Post
 import org.springframework.context.annotation.Primary
+import org.springframework.data.domain.Pageable
+import org.springframework.data.jpa.repository.EntityGraph
 import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Query
+import org.springframework.data.repository.query.Param
 import org.springframework.stereotype.Repository
+import java.time.LocalDateTime
 
 @Repository
 @Primary
-interface PostRepository : JpaRepository<Post, Long>, PostRepositoryCustom
+interface PostRepository : JpaRepository<Post, Long>, PostRepositoryCustom {
+    // 상세 조회용: 작성자 / 이미지 / 스케줄을 한 번에 로딩
+    @EntityGraph(attributePaths = ["user", "postImages", "postAvailabilities"])
+    @Query("select p from Post p where p.id = :postId")
+    fun findDetailById(@Param("postId") postId: Long): Post?
+
+    // 상세 조회용: 캐시된 상세 정보와 별도로 현재 조회수만 조회 (PK 조회)
+    @Query("select p.viewCount from Post p where p.id = :postId")
+    fun findViewCountById(@Param("postId") postId: Long): Int?
+
+    // 검색 인덱스 재생성용 (id 기준 keyset 페이징)
+    fun findByIdGreaterThanOrderByIdAsc(id: Long, pageable: Pageable): List<Post>
+
+    // 검색 인덱스의 마지막 커밋 이후 변경된 게시물
+    fun findByUpdateAtGreaterThanEqual(updateAt: LocalDateTime): List<Post>
+
+    // 검색 인덱스에 남은 ID 중 DB 에 아직 있는 게시물 ID (삭제된 게시물 정리용)
+    @Query("select p.id from Post p where p.id in :ids")
+    fun findExistingIds(@Param("ids") ids: Collection<Long>): List<Long>
+}
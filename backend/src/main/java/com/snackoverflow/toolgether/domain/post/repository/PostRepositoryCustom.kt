@@ -1,10 +1,24 @@
 package com.snackoverflow.toolgether.domain.post.repository
 
+import com.snackoverflow.toolgether.domain.post.dto.PostCursorResponse
 import com.snackoverflow.toolgether.domain.post.dto.PostResponse
 import com.snackoverflow.toolgether.domain.post.dto.PostSearchRequest
+import com.snackoverflow.toolgether.domain.post.dto.PostSortType
 import org.springframework.data.domain.Page
 import org.springframework.data.domain.Pageable
 
 interface PostRepositoryCustom {
     fun searchPosts(request: PostSearchRequest, latitude: Double, longitude: Double, pageable: Pageable): Page<PostResponse>
+
+    // 검색 인덱스에서 찾은 게시물 ID 순서대로 응답 생성
+    fun findPostResponsesByIds(postIds: List<Long>): List<PostResponse>
+
+    fun searchPostsByCursor(
+        request: PostSearchRequest,
+        latitude: Double,
+        longitude: Double,
+        cursor: String?,
+        size: Int,
+        sort: PostSortType
+    ): PostCursorResponse
 }
@@ -1,30 +1,38 @@
 package com.snackoverflow.toolgether.domain.post.repository.impl
 
 import com.querydsl.core.BooleanBuilder
+import com.querydsl.core.types.OrderSpecifier
 import com.querydsl.core.types.dsl.Expressions
 import com.querydsl.core.types.dsl.NumberExpression
 import com.querydsl.jpa.impl.JPAQueryFactory
+import com.snackoverflow.toolgether.domain.post.cache.PostSearchCountCache
+import com.snackoverflow.toolgether.domain.post.cache.PostSearchKey
+import com.snackoverflow.toolgether.domain.post.dto.PostCursor
+import com.snackoverflow.toolgether.domain.post.dto.PostCursorResponse
 import com.snackoverflow.toolgether.domain.post.dto.PostResponse
 import com.snackoverflow.toolgether.domain.post.dto.PostSearchRequest
-import com.snackoverflow.toolgether.domain.post.entity.Post
+import com.snackoverflow.toolgether.domain.post.dto.PostSortType
 import com.snackoverflow.toolgether.domain.post.entity.QPost
 import com.snackoverflow.toolgether.domain.post.repository.PostRepositoryCustom
+import com.snackoverflow.toolgether.domain.post.search.PostFullTextIndex
 import com.snackoverflow.toolgether.domain.postavailability.entity.PostAvailability
 import com.snackoverflow.toolgether.domain.postavailability.entity.QPostAvailability
 import com.snackoverflow.toolgether.domain.postimage.entity.PostImage
 import com.snackoverflow.toolgether.domain.postimage.entity.QPostImage
 import com.snackoverflow.toolgether.domain.user.repository.UserRepository
+import com.snackoverflow.toolgether.global.util.GeoHashUtil
 import org.slf4j.LoggerFactory
 import org.springframework.data.domain.Page
 import org.springframework.data.domain.Pageable
 import org.springframework.data.support.PageableExecutionUtils
 import org.springframework.stereotype.Repository
-import java.util.stream.Collectors
 
 @Repository
 class PostRepositoryImpl(
     private val queryFactory: JPAQueryFactory,
-    private val userRepository: UserRepository
+    private val userRepository: UserRepository,
+    private val countCache: PostSearchCountCache,
+    private val fullTextIndex: PostFullTextIndex
 ) : PostRepositoryCustom {
     private val post: QPost = QPost.post
     private val postImage: QPostImage = QPostImage.postImage
@@ -35,15 +43,128 @@ class PostRepositoryImpl(
     }
 
     override fun searchPosts(request: PostSearchRequest, latitude: Double, longitude: Double, pageable: Pageable): Page<PostResponse> {
+        val builder = searchCondition(request, latitude, longitude)
+
+        // 키워드가 FULLTEXT 로 검색되면 관련도 순, 그 외에는 최신순
+        val orders = mutableListOf<OrderSpecifier<*>>()
+        fullTextIndex.toBooleanQuery(request.keyword)?.let { orders.add(relevance(it).desc()) }
+        orders.add(post.createdAt.desc())
+        orders.add(post.id.desc())
+
+        // 1단계: 조건에 맞는 게시물 ID 만 페이지 크기만큼 조회 (컬렉션 fetch join 이 없으므로 SQL 에서 페이징)
+        val postIds = queryFactory
+            .select(post.id)
+            .from(post)
+            .where(builder)
+            .orderBy(*orders.toTypedArray())
+            .offset(pageable.offset)
+            .limit(pageable.pageSize.toLong())
+            .fetch()
+            .filterNotNull()
+
+        // 2단계: 해당 페이지의 게시물 / 이미지 / 스케줄을 각각 IN 쿼리 한 번으로 조회
+        val postResponses = findPostResponses(postIds)
+
+        // 마지막 페이지가 확실하면 count 쿼리를 생략하고, 필요할 때만 캐시된 전체 개수를 사용
+        return PageableExecutionUtils.getPage(postResponses, pageable) {
+            countCache.getOrLoad(PostSearchKey.filterKey(request, latitude, longitude)) {
+                queryFactory
+                    .select(post.id.countDistinct())
+                    .from(post)
+                    .where(builder)
+                    .fetchOne() ?: 0L
+            }
+        }
+    }
+
+    override fun findPostResponsesByIds(postIds: List<Long>): List<PostResponse> = findPostResponses(postIds)
+
+    /**
+     * 커서 기반 검색 (무한 스크롤)
+     * OFFSET 대신 마지막 게시물의 (createdAt, id) 또는 (distance, id) 이후를 WHERE 조건으로 찾으므로
+     * 뒤쪽 페이지도 첫 페이지와 같은 비용으로 조회된다
+     */
+    override fun searchPostsByCursor(
+        request: PostSearchRequest,
+        latitude: Double,
+        longitude: Double,
+        cursor: String?,
+        size: Int,
+        sort: PostSortType
+    ): PostCursorResponse {
+        val builder = searchCondition(request, latitude, longitude)
+        val last = cursor?.let { PostCursor.decode(it, sort) }
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        val (postIds, cursors) = when (sort) {
+            PostSortType.LATEST -> {
+                if (last != null) {
+                    builder.and(
+                        post.createdAt.lt(last.createdAt)
+                            .or(post.createdAt.eq(last.createdAt).and(post.id.lt(last.id)))
+                    )
+                }
+
+                val rows = queryFactory
+                    .select(post.id, post.createdAt)
+                    .from(post)
+                    .where(builder)
+                    .orderBy(post.createdAt.desc(), post.id.desc())
+                    .limit(size + 1L)
+                    .fetch()
+
+                rows.map { it.get(post.id)!! } to rows.map { PostCursor.of(it.get(post.createdAt)!!, it.get(post.id)!!) }
+            }
+
+            PostSortType.DISTANCE -> {
+                // 실수 거리는 같은 값끼리도 = 비교가 어긋날 수 있으므로 미터 단위 정수로 반올림한 값으로 정렬 / 비교
+                val distance = distanceMetersExpression(latitude, longitude)
+                if (last != null) {
+                    builder.and(
+                        distance.gt(last.distanceMeters)
+                            .or(distance.eq(last.distanceMeters).and(post.id.gt(last.id)))
+                    )
+                }
+
+                val rows = queryFactory
+                    .select(post.id, distance)
+                    .from(post)
+                    .where(builder)
+                    .orderBy(distance.asc(), post.id.asc())
+                    .limit(size + 1L)
+                    .fetch()
+
+                rows.map { it.get(post.id)!! } to rows.map { PostCursor.of(it.get(distance)!!, it.get(post.id)!!) }
+            }
+        }
+
+        val hasNext = postIds.size > size
+        val pageIds = postIds.take(size)
+
+        return PostCursorResponse(
+            content = findPostResponses(pageIds),
+            nextCursor = if (hasNext) cursors[size - 1].encode() else null,
+            hasNext = hasNext
+        )
+    }
+
+    // 검색 조건 (키워드, 카테고리, 가격, 반경)
+    private fun searchCondition(request: PostSearchRequest, latitude: Double, longitude: Double): BooleanBuilder {
         val builder = BooleanBuilder()
 
-        log.info("검색 키워드: ${request.keyword}")
+        log.debug("검색 키워드: {}", request.keyword)
 
         if (request.keyword != null && !request.keyword.isBlank()) {
-            val keywordBuilder = BooleanBuilder()
-            keywordBuilder.or(post.title.containsIgnoreCase(request.keyword))
-            keywordBuilder.or(post.content.containsIgnoreCase(request.keyword))
-            builder.and(keywordBuilder)
+            val booleanQuery = fullTextIndex.toBooleanQuery(request.keyword)
+            if (booleanQuery != null) {
+                // FULLTEXT 인덱스 (ngram) 검색
+                builder.and(relevance(booleanQuery).gt(0.0))
+            } else {
+                val keywordBuilder = BooleanBuilder()
+                keywordBuilder.or(post.title.containsIgnoreCase(request.keyword))
+                keywordBuilder.or(post.content.containsIgnoreCase(request.keyword))
+                builder.and(keywordBuilder)
+            }
         }
 
         if (request.category != null) {
@@ -68,7 +189,7 @@ class PostRepositoryImpl(
 //            val longitude = request.longitude
             val distanceInKm = request.distance
 
-            log.info("lat = $latitude, lon = $longitude, distance = $distanceInKm")
+            log.debug("lat = {}, lon = {}, distance = {}", latitude, longitude, distanceInKm)
 
 //            checkDistance(latitude, longitude, builder, distanceInKm)
 //        } else {
@@ -90,53 +211,86 @@ class PostRepositoryImpl(
             checkDistance(latitude, longitude, builder, distanceInKm)
         }
 
-        val results = queryFactory
+        return builder
+    }
+
+    // ID 순서를 유지하면서 게시물과 이미지, 스케줄을 채워 PostResponse 로 변환
+    private fun findPostResponses(postIds: List<Long>): List<PostResponse> {
+        if (postIds.isEmpty()) {
+            return emptyList()
+        }
+
+        val postsById = queryFactory
             .selectFrom(post)
-            .leftJoin(post.postImages, postImage).fetchJoin()
-            .leftJoin(post.postAvailabilities, postAvailability).fetchJoin()
-            .where(builder)
-            .distinct()
-            .offset(pageable.offset)
-            .limit(pageable.pageSize.toLong())
+            .leftJoin(post.user).fetchJoin()
+            .where(post.id.`in`(postIds))
             .fetch()
+            .associateBy { it.id }
 
+        val imagesByPostId = queryFactory
+            .selectFrom(postImage)
+            .where(postImage.post.id.`in`(postIds))
+            .fetch()
+            .groupBy { it.post?.id }
 
-        val postResponses = results.stream()
-            .map<PostResponse> { p: Post ->
-                val imageUrls = if (p.postImages != null)
-                    p.postImages.stream()
-                        .map<String> { img: PostImage ->
-                            log.info("게시물 ID: ${p.id}, 이미지 ID: ${img.id}, URL: ${img.imageUrl}")
-                            img.imageUrl
-                        }
-                        .collect(Collectors.toSet<String>())
-                else
-                    HashSet<String>()
-                val availabilities: Set<PostAvailability> = if (p.postAvailabilities != null)
-                    HashSet(p.postAvailabilities)
-                else
-                    HashSet()
-
-                log.info(
-                    "PostResponse 생성 전 - 게시물 ID: ${p.id}, 이미지 개수: ${imageUrls.size}, 스케줄 개수: ${availabilities.size}"
-                )
-                PostResponse(p, imageUrls, availabilities)
-            }
-            .collect(Collectors.toList<PostResponse>())
+        val availabilitiesByPostId = queryFactory
+            .selectFrom(postAvailability)
+            .where(postAvailability.post.id.`in`(postIds))
+            .fetch()
+            .groupBy { it.post.id }
 
-        return PageableExecutionUtils.getPage(postResponses, pageable) {
-            results.size.toLong()
-                .toLong()
+        // 게시물 / 이미지 단위 로그는 남기지 않고 페이지 단위로 한 줄만 (검색 hot path)
+        log.debug("검색 결과 조립 - 게시물 {}건", postsById.size)
+
+        return postIds.mapNotNull { postId ->
+            val p = postsById[postId] ?: return@mapNotNull null
+
+            val imageUrls = imagesByPostId[postId].orEmpty()
+                .map { img: PostImage -> img.imageUrl }
+                .toSet()
+            val availabilities: Set<PostAvailability> = availabilitiesByPostId[postId].orEmpty().toSet()
+
+            PostResponse(p, imageUrls, availabilities)
         }
     }
 
+    /**
+     * 반경 검색 조건
+     * 1. geohash 셀 prefix / 위도·경도 BETWEEN 으로 인덱스를 타는 후보 범위를 먼저 좁히고
+     * 2. 좁혀진 후보에 대해서만 haversine 거리 계산으로 정확한 반경을 검사
+     */
     private fun checkDistance(latitude: Double, longitude: Double, builder: BooleanBuilder, distanceInKm: Double) {
-        val distanceExpression: NumberExpression<Double> = Expressions.numberTemplate(
+        val cells = GeoHashUtil.coveringCells(latitude, longitude, distanceInKm)
+        if (cells.isNotEmpty()) {
+            val cellBuilder = BooleanBuilder()
+            cells.forEach { cell -> cellBuilder.or(post.geoHash.startsWith(cell)) }
+            builder.and(cellBuilder)
+        }
+
+        val (minLat, maxLat, minLon, maxLon) = GeoHashUtil.boundingBox(latitude, longitude, distanceInKm)
+        builder.and(post.latitude.between(minLat, maxLat))
+        builder.and(post.longitude.between(minLon, maxLon))
+
+        builder.and(distanceExpression(latitude, longitude).loe(distanceInKm))
+    }
+
+    // 제목 / 내용 FULLTEXT 관련도 점수 (MySQL MATCH ... AGAINST)
+    private fun relevance(booleanQuery: String): NumberExpression<Double> =
+        Expressions.numberTemplate(
+            Double::class.java,
+            "function('match_against', {0}, {1}, {2})",
+            post.title, post.content, booleanQuery
+        )
+
+    // 기준 좌표로부터의 거리 (km, haversine)
+    private fun distanceExpression(latitude: Double, longitude: Double): NumberExpression<Double> =
+        Expressions.numberTemplate(
             Double::class.java,
             "6371 * acos(cos(radians({0})) * cos(radians({1})) * cos(radians({2}) - radians({3})) + sin(radians({0})) * sin(radians({1})))",
             latitude, post.latitude, post.longitude, longitude
         )
 
-        builder.and(distanceExpression.loe(distanceInKm))
-    }
+    // 커서 정렬용 거리 (미터, 정수)
+    private fun distanceMetersExpression(latitude: Double, longitude: Double): NumberExpression<Long> =
+        Expressions.numberTemplate(Long::class.java, "cast(round({0} * 1000, 0) as long)", distanceExpression(latitude, longitude))
 }
@@ -0,0 +1,76 @@
+package com.snackoverflow.toolgether.domain.post.search
+
+import org.slf4j.LoggerFactory
+import org.springframework.boot.context.event.ApplicationReadyEvent
+import org.springframework.context.event.EventListener
+import org.springframework.dao.DataAccessException
+import org.springframework.jdbc.core.ConnectionCallback
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.stereotype.Component
+
+/**
+ * 게시물 제목 / 내용 FULLTEXT 인덱스 관리
+ * MySQL 에서는 한글 검색을 위해 ngram 파서로 인덱스를 만들고, 그 외 DB(H2 테스트 등)에서는 LIKE 검색을 그대로 사용한다
+ * (ddl-auto 는 FULLTEXT / ngram 파서를 만들지 못하므로 스키마 생성 이후 시작 시점에 확인하고 없으면 생성)
+ */
+@Component
+class PostFullTextIndex(
+    private val jdbcTemplate: JdbcTemplate
+) {
+    companion object {
+        private val log = LoggerFactory.getLogger(PostFullTextIndex::class.java)
+
+        const val INDEX_NAME = "ft_post_title_content"
+        private const val NGRAM_TOKEN_SIZE = 2 // MySQL ngram_token_size 기본값
+    }
+
+    @Volatile
+    var isEnabled: Boolean = false
+        private set
+
+    // 스키마 생성(ddl-auto) 이후에 인덱스 존재 여부를 확인하고 없으면 생성
+    @EventListener(ApplicationReadyEvent::class)
+    fun initialize() {
+        try {
+            val productName = jdbcTemplate.execute(ConnectionCallback { it.metaData.databaseProductName })
+            if (!"MySQL".equals(productName, ignoreCase = true)) {
+                log.info("FULLTEXT 검색을 지원하지 않는 DB 입니다. LIKE 검색을 사용합니다: {}", productName)
+                return
+            }
+
+            if (!indexExists()) {
+                try {
+                    jdbcTemplate.execute("ALTER TABLE post ADD FULLTEXT INDEX $INDEX_NAME (title, content) WITH PARSER ngram")
+                    log.info("FULLTEXT 인덱스를 생성했습니다: {}", INDEX_NAME)
+                } catch (e: DataAccessException) {
+                    // 동시에 시작한 다른 서버가 먼저 만든 경우 (Duplicate key name)
+                    if (!indexExists()) throw e
+                }
+            }
+            isEnabled = true
+        } catch (e: DataAccessException) {
+            log.warn("FULLTEXT 인덱스를 준비하지 못했습니다. LIKE 검색을 사용합니다.", e)
+        }
+    }
+
+    private fun indexExists(): Boolean =
+        (jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM information_schema.statistics " +
+                    "WHERE table_schema = DATABASE() AND table_name = 'post' AND index_name = ?",
+            Int::class.java,
+            INDEX_NAME
+        ) ?: 0) > 0
+
+    /**
+     * 검색어를 boolean mode 구문 검색어("...")로 변환
+     * 인덱스를 쓸 수 없거나 ngram 토큰보다 짧은 검색어는 null -> LIKE 검색으로 대체
+     */
+    fun toBooleanQuery(keyword: String?): String? {
+        if (!isEnabled || keyword == null) return null
+
+        val phrase = keyword.replace("\"", " ").trim()
+        if (phrase.length < NGRAM_TOKEN_SIZE) return null
+
+        return "\"$phrase\""
+    }
+}
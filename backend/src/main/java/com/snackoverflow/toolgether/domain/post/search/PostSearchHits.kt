@@ -0,0 +1,7 @@
+package com.snackoverflow.toolgether.domain.post.search
+
+// 검색 인덱스 조회 결과 (페이지의 게시물 ID 와 전체 개수)
+data class PostSearchHits(
+    val postIds: List<Long>,
+    val totalHits: Long
+)
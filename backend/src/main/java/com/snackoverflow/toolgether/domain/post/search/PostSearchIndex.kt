@@ -0,0 +1,286 @@
+package com.snackoverflow.toolgether.domain.post.search
+
+import com.snackoverflow.toolgether.domain.post.dto.PostSearchRequest
+import com.snackoverflow.toolgether.domain.post.entity.Post
+import com.snackoverflow.toolgether.domain.post.event.PostChangedEvent
+import com.snackoverflow.toolgether.domain.post.repository.PostRepository
+import jakarta.annotation.PostConstruct
+import jakarta.annotation.PreDestroy
+import org.apache.lucene.analysis.cjk.CJKAnalyzer
+import org.apache.lucene.document.Document
+import org.apache.lucene.document.Field
+import org.apache.lucene.document.IntPoint
+import org.apache.lucene.document.LatLonPoint
+import org.apache.lucene.document.NumericDocValuesField
+import org.apache.lucene.document.StringField
+import org.apache.lucene.document.TextField
+import org.apache.lucene.index.DirectoryReader
+import org.apache.lucene.index.DocValues
+import org.apache.lucene.index.IndexWriter
+import org.apache.lucene.index.IndexWriterConfig
+import org.apache.lucene.index.SegmentInfos
+import org.apache.lucene.index.Term
+import org.apache.lucene.search.BooleanClause
+import org.apache.lucene.search.BooleanQuery
+import org.apache.lucene.search.DocIdSetIterator
+import org.apache.lucene.search.Query
+import org.apache.lucene.search.SearcherManager
+import org.apache.lucene.search.Sort
+import org.apache.lucene.search.SortField
+import org.apache.lucene.search.TermQuery
+import org.apache.lucene.store.MMapDirectory
+import org.apache.lucene.util.QueryBuilder
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
+import org.springframework.boot.context.event.ApplicationReadyEvent
+import org.springframework.context.event.EventListener
+import org.springframework.data.domain.PageRequest
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+import org.springframework.transaction.event.TransactionalEventListener
+import java.io.IOException
+import java.nio.file.Files
+import java.nio.file.Paths
+import java.time.Duration
+import java.time.Instant
+import java.time.LocalDateTime
+import java.time.ZoneId
+
+/**
+ * 게시물 검색용 Lucene 인덱스 (custom.post.search.lucene.enabled=true 일 때만 사용)
+ * 키워드 + 반경 + 가격 조건을 인덱스 한 번으로 처리하고 게시물 ID 만 반환 -> DB 에서는 해당 페이지만 조회
+ * 게시물 변경은 커밋 이후 PostChangedEvent 로 반영한다
+ *
+ * 변경은 NRT(SearcherManager.maybeRefresh) 로 바로 검색에 보이고, 디스크 커밋(fsync)은 custom.post.search.lucene.commit-interval-ms 주기로 모아서 한다
+ * 커밋하지 못하고 종료되면 다음 시작 때 마지막 커밋 시각 이후 변경된 게시물을 다시 반영하고,
+ * 그 사이 DB 에서 지워진 게시물은 인덱스의 ID 를 DB 와 대조해 제거한다 (삭제는 updateAt 으로 찾을 수 없음)
+ */
+@Component
+@ConditionalOnProperty(name = ["custom.post.search.lucene.enabled"], havingValue = "true")
+class PostSearchIndex(
+    private val postRepository: PostRepository,
+    @Value("\${custom.post.search.lucene.path}") private val indexPath: String
+) {
+    companion object {
+        private val log = LoggerFactory.getLogger(PostSearchIndex::class.java)
+
+        private const val FIELD_ID = "id"
+        private const val FIELD_TITLE = "title"
+        private const val FIELD_CONTENT = "content"
+        private const val FIELD_CATEGORY = "category"
+        private const val FIELD_PRICE_TYPE = "priceType"
+        private const val FIELD_PRICE = "price"
+        private const val FIELD_LOCATION = "location"
+        private const val FIELD_CREATED_AT = "createdAt"
+        private const val FIELD_ID_SORT = "idSort"
+
+        private const val REBUILD_BATCH_SIZE = 500
+        private const val COMMITTED_AT = "committedAt" // 커밋 데이터: 마지막 커밋 시각 (epoch ms)
+        private val CATCH_UP_MARGIN: Duration = Duration.ofMinutes(1) // 커밋 직전에 반영 중이던 변경까지 포함
+    }
+
+    private val analyzer = CJKAnalyzer() // 한글 bi-gram 분석
+    private val queryBuilder = QueryBuilder(analyzer)
+
+    private lateinit var directory: MMapDirectory
+    private lateinit var writer: IndexWriter
+    private lateinit var searcherManager: SearcherManager
+    private var rebuildRequired = false
+    private var lastCommittedAt: Long? = null
+
+    @PostConstruct
+    fun open() {
+        val path = Paths.get(indexPath)
+        Files.createDirectories(path)
+
+        directory = MMapDirectory(path)
+        rebuildRequired = !DirectoryReader.indexExists(directory)
+        if (!rebuildRequired) {
+            lastCommittedAt = SegmentInfos.readLatestCommit(directory).userData[COMMITTED_AT]?.toLongOrNull()
+        }
+        writer = IndexWriter(directory, IndexWriterConfig(analyzer))
+        searcherManager = SearcherManager(writer, null)
+    }
+
+    // 인덱스가 없으면 DB 의 게시물로 다시 만들고, 있으면 마지막 커밋 이후 변경된 게시물만 반영
+    @EventListener(ApplicationReadyEvent::class)
+    fun rebuildIfMissing() {
+        if (!rebuildRequired) {
+            catchUp()
+            return
+        }
+
+        var lastId = 0L
+        var indexed = 0
+        while (true) {
+            val posts = postRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE))
+            posts.forEach { writer.updateDocument(Term(FIELD_ID, it.id.toString()), toDocument(it)) }
+            indexed += posts.size
+            if (posts.size < REBUILD_BATCH_SIZE) break
+            lastId = posts.last().id!!
+        }
+        commit()
+        searcherManager.maybeRefresh()
+        rebuildRequired = false
+
+        log.info("게시물 검색 인덱스를 재생성했습니다: {}건", indexed)
+    }
+
+    private fun catchUp() {
+        val committedAt = lastCommittedAt ?: return
+        val since = LocalDateTime.ofInstant(Instant.ofEpochMilli(committedAt), ZoneId.systemDefault()).minus(CATCH_UP_MARGIN)
+
+        val posts = postRepository.findByUpdateAtGreaterThanEqual(since)
+        posts.forEach { writer.updateDocument(Term(FIELD_ID, it.id.toString()), toDocument(it)) }
+        val removed = removeDeletedPosts()
+        commit()
+        searcherManager.maybeRefresh()
+
+        if (posts.isNotEmpty() || removed > 0) {
+            log.info("게시물 검색 인덱스에 마지막 커밋 이후 변경분을 반영했습니다: 갱신 {}건, 삭제 {}건", posts.size, removed)
+        }
+    }
+
+    // 인덱스에 있는 게시물 ID 를 REBUILD_BATCH_SIZE 개씩 DB 와 대조해 없는 게시물 문서를 삭제
+    private fun removeDeletedPosts(): Int {
+        var removed = 0
+        indexedPostIds().chunked(REBUILD_BATCH_SIZE).forEach { ids ->
+            val existing = postRepository.findExistingIds(ids).toSet()
+            ids.filterNot { it in existing }.forEach {
+                writer.deleteDocuments(Term(FIELD_ID, it.toString()))
+                removed++
+            }
+        }
+        return removed
+    }
+
+    // 정렬용 doc values 에서 삭제되지 않은 문서의 게시물 ID 를 읽음 (stored field 를 읽지 않음)
+    private fun indexedPostIds(): List<Long> {
+        searcherManager.maybeRefresh()
+        val searcher = searcherManager.acquire()
+        try {
+            val ids = ArrayList<Long>()
+            searcher.indexReader.leaves().forEach { leaf ->
+                val liveDocs = leaf.reader().liveDocs
+                val values = DocValues.getNumeric(leaf.reader(), FIELD_ID_SORT)
+                while (values.nextDoc() != DocIdSetIterator.NO_MORE_DOCS) {
+                    if (liveDocs == null || liveDocs.get(values.docID())) ids.add(values.longValue())
+                }
+            }
+            return ids
+        } finally {
+            searcherManager.release(searcher)
+        }
+    }
+
+    @TransactionalEventListener
+    fun onPostChanged(event: PostChangedEvent) {
+        try {
+            if (event.type == PostChangedEvent.ChangeType.DELETED) {
+                writer.deleteDocuments(Term(FIELD_ID, event.postId.toString()))
+            } else {
+                postRepository.findById(event.postId).ifPresent {
+                    writer.updateDocument(Term(FIELD_ID, event.postId.toString()), toDocument(it))
+                }
+            }
+            // 커밋 없이 바로 검색에 반영 (NRT)
+            searcherManager.maybeRefresh()
+        } catch (e: IOException) {
+            log.error("게시물 검색 인덱스 갱신에 실패했습니다: postId={}", event.postId, e)
+        }
+    }
+
+    // 모아 둔 변경을 디스크에 커밋
+    @Scheduled(fixedDelayString = "\${custom.post.search.lucene.commit-interval-ms:10000}")
+    fun commitIfChanged() {
+        if (!writer.hasUncommittedChanges()) return
+        try {
+            commit()
+        } catch (e: IOException) {
+            log.error("게시물 검색 인덱스 커밋에 실패했습니다 (다음 주기에 재시도)", e)
+        }
+    }
+
+    /**
+     * 조건에 맞는 게시물 ID 를 offset 부터 limit 개 조회
+     * 키워드가 있으면 관련도 순, 없으면 최신순
+     */
+    fun search(request: PostSearchRequest, latitude: Double, longitude: Double, offset: Int, limit: Int): PostSearchHits {
+        val query = buildQuery(request, latitude, longitude)
+        val sort = if (request.keyword.isBlank()) {
+            Sort(SortField(FIELD_CREATED_AT, SortField.Type.LONG, true), SortField(FIELD_ID_SORT, SortField.Type.LONG, true))
+        } else {
+            Sort(SortField.FIELD_SCORE, SortField(FIELD_CREATED_AT, SortField.Type.LONG, true))
+        }
+
+        val searcher = searcherManager.acquire()
+        try {
+            val totalHits = searcher.count(query).toLong()
+            if (offset >= totalHits) return PostSearchHits(emptyList(), totalHits)
+
+            val topDocs = searcher.search(query, offset + limit, sort)
+            val storedFields = searcher.storedFields()
+            val postIds = topDocs.scoreDocs
+                .drop(offset)
+                .map { storedFields.document(it.doc).get(FIELD_ID).toLong() }
+
+            return PostSearchHits(postIds, totalHits)
+        } finally {
+            searcherManager.release(searcher)
+        }
+    }
+
+    private fun buildQuery(request: PostSearchRequest, latitude: Double, longitude: Double): Query {
+        val builder = BooleanQuery.Builder()
+
+        if (request.keyword.isNotBlank()) {
+            val keywordQuery = BooleanQuery.Builder()
+            queryBuilder.createPhraseQuery(FIELD_TITLE, request.keyword)?.let { keywordQuery.add(it, BooleanClause.Occur.SHOULD) }
+            queryBuilder.createPhraseQuery(FIELD_CONTENT, request.keyword)?.let { keywordQuery.add(it, BooleanClause.Occur.SHOULD) }
+            keywordQuery.setMinimumNumberShouldMatch(1)
+            builder.add(keywordQuery.build(), BooleanClause.Occur.MUST)
+        }
+
+        // 카테고리 / 가격 유형 / 가격 범위 / 반경은 필수 조건
+        builder.add(TermQuery(Term(FIELD_CATEGORY, request.category.name)), BooleanClause.Occur.FILTER)
+        builder.add(TermQuery(Term(FIELD_PRICE_TYPE, request.priceType.name)), BooleanClause.Occur.FILTER)
+        builder.add(IntPoint.newRangeQuery(FIELD_PRICE, request.minPrice, request.maxPrice), BooleanClause.Occur.FILTER)
+        builder.add(
+            LatLonPoint.newDistanceQuery(FIELD_LOCATION, latitude, longitude, request.distance * 1000),
+            BooleanClause.Occur.FILTER
+        )
+
+        return builder.build()
+    }
+
+    private fun toDocument(post: Post): Document {
+        val createdAt = post.createdAt?.atZone(ZoneId.systemDefault())?.toInstant()?.toEpochMilli() ?: 0L
+
+        return Document().apply {
+            add(StringField(FIELD_ID, post.id.toString(), Field.Store.YES))
+            add(TextField(FIELD_TITLE, post.title, Field.Store.NO))
+            add(TextField(FIELD_CONTENT, post.content, Field.Store.NO))
+            add(StringField(FIELD_CATEGORY, post.category.name, Field.Store.NO))
+            add(StringField(FIELD_PRICE_TYPE, post.priceType.name, Field.Store.NO))
+            add(IntPoint(FIELD_PRICE, post.price))
+            add(LatLonPoint(FIELD_LOCATION, post.latitude, post.longitude))
+            add(NumericDocValuesField(FIELD_CREATED_AT, createdAt))
+            add(NumericDocValuesField(FIELD_ID_SORT, post.id!!))
+        }
+    }
+
+    @Synchronized
+    private fun commit() {
+        writer.setLiveCommitData(mapOf(COMMITTED_AT to System.currentTimeMillis().toString()).entries)
+        writer.commit()
+    }
+
+    @PreDestroy
+    fun close() {
+        commit()
+        searcherManager.close()
+        writer.close()
+        directory.close()
+    }
+}
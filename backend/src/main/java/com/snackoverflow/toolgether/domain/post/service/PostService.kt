@@ -1,8 +1,10 @@
 package com.snackoverflow.toolgether.domain.post.service
 
 import com.snackoverflow.toolgether.domain.post.dto.PostCreateRequest
+import com.snackoverflow.toolgether.domain.post.dto.PostCursorResponse
 import com.snackoverflow.toolgether.domain.post.dto.PostResponse
 import com.snackoverflow.toolgether.domain.post.dto.PostSearchRequest
+import com.snackoverflow.toolgether.domain.post.dto.PostSortType
 import com.snackoverflow.toolgether.domain.post.dto.PostUpdateRequest
 import com.snackoverflow.toolgether.domain.post.entity.Post
 import com.snackoverflow.toolgether.domain.user.entity.User
@@ -23,4 +25,6 @@ interface PostService {
     fun findPostById(postId: Long): Post // 예약에 필요한 메서드
 
     fun searchPosts(request: PostSearchRequest, pageable: Pageable): Page<PostResponse>?
+
+    fun searchPostsByCursor(request: PostSearchRequest, cursor: String?, size: Int, sort: PostSortType): PostCursorResponse
 }
@@ -1,15 +1,24 @@
 package com.snackoverflow.toolgether.domain.post.service.impl
 
+import com.snackoverflow.toolgether.domain.post.cache.PostDetailCache
+import com.snackoverflow.toolgether.domain.post.cache.PostDetailSnapshot
+import com.snackoverflow.toolgether.domain.post.cache.PostSearchKey
+import com.snackoverflow.toolgether.domain.post.cache.PostSearchResultCache
 import com.snackoverflow.toolgether.domain.post.dto.PostCreateRequest
+import com.snackoverflow.toolgether.domain.post.dto.PostCursorResponse
 import com.snackoverflow.toolgether.domain.post.dto.PostResponse
 import com.snackoverflow.toolgether.domain.post.dto.PostSearchRequest
+import com.snackoverflow.toolgether.domain.post.dto.PostSortType
 import com.snackoverflow.toolgether.domain.post.dto.PostUpdateRequest
 import com.snackoverflow.toolgether.domain.post.entity.Post
 import com.snackoverflow.toolgether.domain.post.entity.Post.Companion.builder
 import com.snackoverflow.toolgether.domain.post.entity.enums.RecurrenceDays
+import com.snackoverflow.toolgether.domain.post.event.PostChangedEvent
 import com.snackoverflow.toolgether.domain.post.repository.PostRepository
 import com.snackoverflow.toolgether.domain.post.repository.PostRepositoryCustom
+import com.snackoverflow.toolgether.domain.post.search.PostSearchIndex
 import com.snackoverflow.toolgether.domain.post.service.PostService
+import com.snackoverflow.toolgether.domain.post.viewcount.PostViewCountBuffer
 import com.snackoverflow.toolgether.domain.postavailability.dto.PostAvailabilityRequest
 import com.snackoverflow.toolgether.domain.postavailability.entity.PostAvailability
 import com.snackoverflow.toolgether.domain.postavailability.repository.PostAvailabilityRepository
@@ -19,7 +28,9 @@ import com.snackoverflow.toolgether.domain.user.entity.User
 import com.snackoverflow.toolgether.global.exception.BadRequestException
 import com.snackoverflow.toolgether.global.exception.NotFoundException
 import com.snackoverflow.toolgether.global.util.s3.S3Service
+import org.springframework.context.ApplicationEventPublisher
 import org.springframework.data.domain.Page
+import org.springframework.data.domain.PageImpl
 import org.springframework.data.domain.Pageable
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
@@ -33,6 +44,11 @@ class PostServiceImpl(
     private val postImageRepository: PostImageRepository,
     private val postAvailabilityRepository: PostAvailabilityRepository,
     private val s3Service: S3Service,
+    private val eventPublisher: ApplicationEventPublisher,
+    private val viewCountBuffer: PostViewCountBuffer,
+    private val postDetailCache: PostDetailCache,
+    private val postSearchResultCache: PostSearchResultCache,
+    private val postSearchIndex: PostSearchIndex?, // custom.post.search.lucene.enabled=true 일 때만 존재
 ) : PostService {
 
 
@@ -69,30 +85,37 @@ class PostServiceImpl(
         // 거래 가능 일정 저장
         savePostAvailabilities(post, request.availabilities)
 
+        eventPublisher.publishEvent(PostChangedEvent(this, post.id!!, PostChangedEvent.ChangeType.CREATED, setOfNotNull(post.geoHash)))
+
         return PostResponse(post)
     }
 
-    @Transactional
+    // 캐시에 없을 때만 게시물 / 이미지 / 스케줄을 한 번에 조회
+    @Transactional(readOnly = true)
     override fun getPostById(postId: Long): PostResponse {
-        val post = postRepository.findById(postId)
-            .orElseThrow {
-                NotFoundException(
+        val snapshot = postDetailCache.getOrLoad(postId) {
+            val post = postRepository.findDetailById(postId)
+                ?: throw NotFoundException(
                     "404-1",
                     "게시물을 찾을 수 없습니다."
                 )
-            }
-
-        // 조회수 증가
-        post.incrementViewCount()
+            PostDetailSnapshot.of(post)
+        }
 
-        // Set<String> 이미지 경로로 변환
-        val imageUrls = post.postImages
-            .map { obj: PostImage -> obj.imageUrl }.toSet()
+        // 캐시된 조회수는 적재 시점 값에서 멈춰 있으므로, 조회수는 매번 DB 에서 읽고 이 서버에서 아직 반영하지 않은 조회수를 더함
+        // (다른 서버의 조회수는 각 서버가 반영한 뒤부터 보임)
+        val viewCount = postRepository.findViewCountById(postId)
+            ?: throw NotFoundException(
+                "404-1",
+                "게시물을 찾을 수 없습니다."
+            )
 
-        // PostAvailability Set으로 변환
-        val availabilities: Set<PostAvailability> = HashSet(post.postAvailabilities)
+        // 조회수 증가 (버퍼에 누적 후 주기적으로 일괄 반영)
+        viewCountBuffer.increment(postId)
 
-        return PostResponse(post = post, images = imageUrls, availabilities = availabilities)
+        return snapshot.toResponse().apply {
+            this.viewCount = viewCount + viewCountBuffer.pending(postId).toInt()
+        }
     }
 
     @Transactional
@@ -112,6 +135,8 @@ class PostServiceImpl(
         postAvailabilityRepository.deleteByPostId(postId)
 
         postRepository.delete(post)
+
+        eventPublisher.publishEvent(PostChangedEvent(this, postId, PostChangedEvent.ChangeType.DELETED, setOfNotNull(post.geoHash)))
     }
 
     @Transactional
@@ -125,6 +150,8 @@ class PostServiceImpl(
                 )
             }
 
+        val previousGeoHash = post.geoHash
+
         // 기존 객체의 필드 값만 변경
         post.updatePost(
             request.title,
@@ -157,6 +184,8 @@ class PostServiceImpl(
             savePostAvailabilities(post, request.availabilities)
         }
 
+        eventPublisher.publishEvent(PostChangedEvent(this, postId, PostChangedEvent.ChangeType.UPDATED, setOfNotNull(previousGeoHash, post.geoHash)))
+
         // 수정된 게시물 반환
         val imageUrls = postImageRepository.findAllByPostId(postId)
             .map { obj: PostImage -> obj.imageUrl }
@@ -184,10 +213,41 @@ class PostServiceImpl(
         postAvailabilityRepository!!.saveAll(postAvailabilities)
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     override fun searchPosts(request: PostSearchRequest, pageable: Pageable): Page<PostResponse>? {
-//        Page<Post> posts = postQueryRepository.searchPosts(request, pageable);
-        return null
+        // 작은 반경은 셀 중심으로 옮기면 반경 안의 게시물이 달라지므로 캐시 없이 요청 좌표로 조회
+        if (!PostSearchKey.isCacheable(request)) {
+            return loadSearchPage(request, request.latitude, request.longitude, pageable)
+        }
+
+        // 캐시 키와 같은 셀 중심 좌표로 조회해야 같은 키를 공유하는 요청이 모두 같은 결과를 받는다
+        val (latitude, longitude) = PostSearchKey.snap(request.latitude, request.longitude)
+
+        return postSearchResultCache.getOrLoad(request, latitude, longitude, pageable) {
+            loadSearchPage(request, latitude, longitude, pageable)
+        }
+    }
+
+    // 검색 인덱스가 켜져 있으면 인덱스에서 ID 만 찾고 해당 페이지만 DB 에서 조회
+    private fun loadSearchPage(request: PostSearchRequest, latitude: Double, longitude: Double, pageable: Pageable): Page<PostResponse> {
+        if (postSearchIndex != null) {
+            val hits = postSearchIndex.search(
+                request, latitude, longitude, pageable.offset.toInt(), pageable.pageSize
+            )
+            return PageImpl(postQueryRepository.findPostResponsesByIds(hits.postIds), pageable, hits.totalHits)
+        }
+        return postQueryRepository.searchPosts(request, latitude, longitude, pageable)
+    }
+
+    @Transactional(readOnly = true)
+    override fun searchPostsByCursor(
+        request: PostSearchRequest,
+        cursor: String?,
+        size: Int,
+        sort: PostSortType
+    ): PostCursorResponse {
+        val pageSize = size.coerceIn(1, MAX_CURSOR_PAGE_SIZE)
+        return postQueryRepository.searchPostsByCursor(request, request.latitude, request.longitude, cursor, pageSize, sort)
     }
 
     // 예약에 필요한 메서드
@@ -196,4 +256,8 @@ class PostServiceImpl(
         return postRepository.findById(postId)
             .orElseThrow { RuntimeException("Post not found") }
     }
+
+    companion object {
+        private const val MAX_CURSOR_PAGE_SIZE = 100
+    }
 }
@@ -0,0 +1,83 @@
+package com.snackoverflow.toolgether.domain.post.viewcount
+
+import jakarta.annotation.PreDestroy
+import org.slf4j.LoggerFactory
+import org.springframework.dao.DataAccessException
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.LongAdder
+
+/**
+ * 게시물 조회수 버퍼
+ * 상세 조회마다 post 행을 UPDATE 하지 않고 메모리에 누적한 뒤, 주기적으로 한 번의 배치 UPDATE 로 반영한다
+ */
+@Component
+class PostViewCountBuffer(
+    private val jdbcTemplate: JdbcTemplate
+) {
+    companion object {
+        private val log = LoggerFactory.getLogger(PostViewCountBuffer::class.java)
+
+        private const val FLUSH_SQL = "UPDATE post SET view_count = view_count + ? WHERE id = ?"
+    }
+
+    private val pendingCounts = ConcurrentHashMap<Long, LongAdder>()
+
+    // 지난 주기에 정리한 adder (정리 직전에 참조를 얻은 increment() 가 뒤늦게 더한 조회수를 다음 주기에 회수)
+    @Volatile
+    private var retiredCounts: Map<Long, LongAdder> = emptyMap()
+
+    fun increment(postId: Long) {
+        pendingCounts.computeIfAbsent(postId) { LongAdder() }.increment()
+    }
+
+    // 아직 DB 에 반영되지 않은 조회수
+    fun pending(postId: Long): Long = (pendingCounts[postId]?.sum() ?: 0L) + (retiredCounts[postId]?.sum() ?: 0L)
+
+    @Synchronized
+    @Scheduled(fixedDelayString = "\${custom.post.view-count.flush-interval-ms:5000}")
+    fun flush() {
+        val merged = HashMap<Long, Long>()
+        retiredCounts.forEach { (postId, adder) ->
+            val late = adder.sum()
+            if (late > 0) merged.merge(postId, late) { a, b -> a + b }
+        }
+
+        val retired = HashMap<Long, LongAdder>()
+        pendingCounts.forEach { (postId, adder) ->
+            val delta = adder.sumThenReset()
+            if (delta > 0) {
+                merged.merge(postId, delta) { a, b -> a + b }
+            } else if (pendingCounts.remove(postId, adder)) {
+                // 한 주기 동안 조회가 없던 게시물은 정리하되, 바로 버리지 않고 한 주기 더 보관
+                retired[postId] = adder
+            }
+        }
+        retiredCounts = retired
+        if (merged.isEmpty()) return
+
+        val deltas = merged.map { (postId, delta) -> postId to delta }.toMutableList()
+
+        // 여러 서버가 동시에 반영할 때 락 순서를 맞추기 위해 ID 순으로 정렬
+        deltas.sortBy { it.first }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, deltas, deltas.size) { ps, (postId, delta) ->
+                ps.setLong(1, delta)
+                ps.setLong(2, postId)
+            }
+            log.debug("조회수 {}건 반영", deltas.size)
+        } catch (e: DataAccessException) {
+            // 반영하지 못한 조회수는 다음 주기에 다시 시도
+            deltas.forEach { (postId, delta) -> pendingCounts.computeIfAbsent(postId) { LongAdder() }.add(delta) }
+            log.warn("조회수 반영에 실패했습니다. 다음 주기에 다시 시도합니다.", e)
+        }
+    }
+
+    @PreDestroy
+    fun flushOnShutdown() {
+        flush()
+    }
+}
@@ -0,0 +1,100 @@
+package com.snackoverflow.toolgether.domain.reservation.archive
+
+import com.snackoverflow.toolgether.domain.reservation.cache.ReservationDashboardCache
+import com.snackoverflow.toolgether.domain.reservation.entity.ReservationStatus
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.support.TransactionTemplate
+import java.sql.Timestamp
+import java.time.LocalDateTime
+
+/**
+ * 종료된 예약 보관
+ * 종료 시간이 retentionMonths 개월 지난 종료 상태 예약을 보증금 내역과 함께 archive 테이블로 옮긴다
+ * -> reservation / deposit_history 에는 최근 예약만 남아 목록 조회 / 대여 스케줄러가 오래된 행을 읽지 않음
+ *
+ * 배치마다 INSERT ... SELECT 후 DELETE 를 한 트랜잭션에서 실행하고, 대상 행은 FOR UPDATE SKIP LOCKED 로 잡아 여러 서버에서 실행해도 안전
+ * 리뷰는 사용자 평점에 계속 쓰이므로 review 테이블에 그대로 두고 원본 예약 ID 로 보관된 예약을 가리킨다 (review.reservation_id 에는 FK 없음)
+ */
+@Component
+class ReservationArchiver(
+    private val jdbcTemplate: NamedParameterJdbcTemplate,
+    private val dashboardCache: ReservationDashboardCache,
+    transactionManager: PlatformTransactionManager,
+    @Value("\${custom.reservation.archive.retention-months:6}") private val retentionMonths: Long,
+    @Value("\${custom.reservation.archive.batch-size:500}") private val batchSize: Int
+) {
+    companion object {
+        private val log = LoggerFactory.getLogger(ReservationArchiver::class.java)
+
+        val TERMINAL_STATUSES = listOf(
+            ReservationStatus.DONE,
+            ReservationStatus.REJECTED,
+            ReservationStatus.CANCELED,
+            ReservationStatus.FAILED_OWNER_ISSUE,
+            ReservationStatus.FAILED_RENTER_ISSUE
+        )
+
+        private const val SELECT_TARGETS =
+            "SELECT r.id, r.renter_id, r.owner_id FROM reservation r " +
+                    "WHERE r.status IN (:statuses) AND r.end_time < :cutoff " +
+                    "ORDER BY r.end_time LIMIT :limit FOR UPDATE SKIP LOCKED"
+
+        private const val COPY_RESERVATIONS =
+            "INSERT INTO reservation_archive (id, post_id, post_title, renter_id, owner_id, create_at, start_time, end_time, " +
+                    "status, rejection_reason, amount, archived_at) " +
+                    "SELECT r.id, r.post_id, p.title, r.renter_id, r.owner_id, r.create_at, r.start_time, r.end_time, " +
+                    "r.status, r.rejection_reason, r.amount, :now " +
+                    "FROM reservation r LEFT JOIN post p ON p.id = r.post_id WHERE r.id IN (:ids)"
+
+        private const val COPY_DEPOSITS =
+            "INSERT INTO deposit_history_archive (id, reservation_id, user_id, amount, status, return_reason, archived_at) " +
+                    "SELECT d.id, d.reservation_id, d.user_id, d.amount, d.status, d.return_reason, :now " +
+                    "FROM deposit_history d WHERE d.reservation_id IN (:ids)"
+
+        private const val DELETE_DEPOSITS = "DELETE FROM deposit_history WHERE reservation_id IN (:ids)"
+        private const val DELETE_RESERVATIONS = "DELETE FROM reservation WHERE id IN (:ids)"
+    }
+
+    private val transactionTemplate = TransactionTemplate(transactionManager)
+
+    @Scheduled(cron = "\${custom.reservation.archive.cron:0 30 4 * * *}")
+    fun archive() {
+        val cutoff = LocalDateTime.now().minusMonths(retentionMonths)
+        var total = 0
+
+        while (true) {
+            val archived = transactionTemplate.execute { archiveBatch(cutoff) } ?: 0
+            total += archived
+            if (archived < batchSize) break
+        }
+
+        if (total > 0) log.info("종료 예약 보관 - {}건 (종료 시간 {} 이전)", total, cutoff)
+    }
+
+    private fun archiveBatch(cutoff: LocalDateTime): Int {
+        val targets = jdbcTemplate.query(
+            SELECT_TARGETS,
+            mapOf(
+                "statuses" to TERMINAL_STATUSES.map { it.name },
+                "cutoff" to Timestamp.valueOf(cutoff),
+                "limit" to batchSize
+            )
+        ) { rs, _ -> Triple(rs.getLong(1), rs.getLong(2), rs.getLong(3)) }
+        if (targets.isEmpty()) return 0
+
+        val params = mapOf("ids" to targets.map { it.first }, "now" to Timestamp.valueOf(LocalDateTime.now()))
+        jdbcTemplate.update(COPY_RESERVATIONS, params)
+        jdbcTemplate.update(COPY_DEPOSITS, params)
+        jdbcTemplate.update(DELETE_DEPOSITS, params)
+        jdbcTemplate.update(DELETE_RESERVATIONS, params)
+
+        // 보관 목록과 최근 목록의 경계가 바뀌므로 목록 캐시 무효화
+        dashboardCache.evictAfterCommit(targets.flatMap { listOf(it.second, it.third) })
+        return targets.size
+    }
+}
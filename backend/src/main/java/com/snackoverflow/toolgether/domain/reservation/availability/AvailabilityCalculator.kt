@@ -0,0 +1,113 @@
+package com.snackoverflow.toolgether.domain.reservation.availability
+
+import com.snackoverflow.toolgether.domain.postavailability.entity.PostAvailability
+import java.time.DayOfWeek
+import java.time.LocalDateTime
+import java.time.temporal.TemporalAdjusters
+
+/**
+ * 예약 가능 시간 계산
+ * 1. PostAvailability 규칙을 조회 구간 안의 시간대로 펼친다
+ *    - 반복 없음: startTime ~ endTime
+ *    - 매주 반복: recurrence_days 요일마다 startTime ~ endTime 의 시각 (종료 시각이 더 이르면 다음 날까지), startTime 날짜부터 적용
+ * 2. 가능 시간대에서 예약된 시간대를 빼는 것을 sweep line 한 번으로 계산
+ */
+object AvailabilityCalculator {
+
+    @JvmStatic
+    fun expand(rules: List<PostAvailability>, from: LocalDateTime, to: LocalDateTime): List<TimeSlot> {
+        val slots = mutableListOf<TimeSlot>()
+
+        rules.forEach { rule ->
+            if (!rule.isRecurring) {
+                slots.add(TimeSlot(rule.startTime, rule.endTime))
+                return@forEach
+            }
+
+            val dayOfWeek = runCatching { DayOfWeek.of(rule.recurrence_days) }.getOrNull() ?: return@forEach
+            val startOfDay = rule.startTime.toLocalTime()
+            val endOfDay = rule.endTime.toLocalTime()
+
+            // 자정을 넘기는 시간대는 전날 시작분도 구간에 걸칠 수 있으므로 하루 앞에서부터 탐색
+            var date = maxOf(from.toLocalDate().minusDays(1), rule.startTime.toLocalDate())
+                .with(TemporalAdjusters.nextOrSame(dayOfWeek))
+            while (date.atTime(startOfDay) < to) {
+                val start = date.atTime(startOfDay)
+                val end = if (endOfDay > startOfDay) date.atTime(endOfDay) else date.plusDays(1).atTime(endOfDay)
+                slots.add(TimeSlot(start, end))
+                date = date.plusWeeks(1)
+            }
+        }
+
+        return slots.filter { it.startTime < to && it.endTime > from && it.startTime < it.endTime }
+    }
+
+    /**
+     * 가능 시간대 - 예약 시간대 (조회 구간으로 잘라서 반환)
+     * 경계 시각을 정렬한 뒤 왼쪽부터 훑으며 "가능 구간 개수 > 0 이고 예약 구간 개수 == 0" 인 구간만 모은다
+     */
+    @JvmStatic
+    fun freeSlots(
+        available: List<TimeSlot>,
+        reserved: List<TimeSlot>,
+        from: LocalDateTime,
+        to: LocalDateTime
+    ): List<TimeSlot> {
+        val events = mutableListOf<Event>()
+        available.forEach {
+            events.add(Event(it.startTime, availableDelta = 1))
+            events.add(Event(it.endTime, availableDelta = -1))
+        }
+        reserved.forEach {
+            events.add(Event(it.startTime, reservedDelta = 1))
+            events.add(Event(it.endTime, reservedDelta = -1))
+        }
+        events.sortBy { it.time }
+
+        val result = mutableListOf<TimeSlot>()
+        var availableCount = 0
+        var reservedCount = 0
+        var freeSince: LocalDateTime? = null
+
+        var i = 0
+        while (i < events.size) {
+            // 같은 시각의 경계는 한 번에 반영 (맞닿은 구간 사이에 빈틈이 생기지 않도록)
+            val time = events[i].time
+            while (i < events.size && events[i].time == time) {
+                availableCount += events[i].availableDelta
+                reservedCount += events[i].reservedDelta
+                i++
+            }
+
+            val free = availableCount > 0 && reservedCount == 0
+            if (free && freeSince == null) {
+                freeSince = time
+            } else if (!free && freeSince != null) {
+                addClipped(result, freeSince, time, from, to)
+                freeSince = null
+            }
+        }
+
+        return result
+    }
+
+    private fun addClipped(
+        result: MutableList<TimeSlot>,
+        start: LocalDateTime,
+        end: LocalDateTime,
+        from: LocalDateTime,
+        to: LocalDateTime
+    ) {
+        val clippedStart = maxOf(start, from)
+        val clippedEnd = minOf(end, to)
+        if (clippedStart < clippedEnd) {
+            result.add(TimeSlot(clippedStart, clippedEnd))
+        }
+    }
+
+    private data class Event(
+        val time: LocalDateTime,
+        val availableDelta: Int = 0,
+        val reservedDelta: Int = 0
+    )
+}
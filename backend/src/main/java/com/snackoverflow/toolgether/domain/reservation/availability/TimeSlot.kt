@@ -0,0 +1,9 @@
+package com.snackoverflow.toolgether.domain.reservation.availability
+
+import java.time.LocalDateTime
+
+// [startTime, endTime) 구간
+data class TimeSlot(
+    val startTime: LocalDateTime,
+    val endTime: LocalDateTime
+)
@@ -0,0 +1,119 @@
+package com.snackoverflow.toolgether.domain.reservation.cache
+
+import com.fasterxml.jackson.core.JsonProcessingException
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.snackoverflow.toolgether.domain.reservation.dto.ReservationDashboardType
+import com.snackoverflow.toolgether.domain.reservation.entity.ReservationStatus
+import com.snackoverflow.toolgether.domain.reservation.event.ReservationStatusChangedEvent
+import com.snackoverflow.toolgether.domain.user.dto.response.MyReservationInfoResponse
+import org.slf4j.LoggerFactory
+import org.springframework.dao.DataAccessException
+import org.springframework.data.domain.Page
+import org.springframework.data.domain.PageImpl
+import org.springframework.data.domain.Pageable
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.stereotype.Component
+import org.springframework.transaction.event.TransactionalEventListener
+import org.springframework.transaction.support.TransactionSynchronization
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import java.time.Duration
+
+/**
+ * 마이페이지 예약 목록 캐시
+ * 키에 사용자별 세대 번호를 넣어 두고, 예약 / 리뷰가 바뀌면 관련 사용자의 세대 번호만 올려 이전 캐시를 한 번에 무효화
+ * (대여자 / 소유자 양쪽 목록에 같은 예약이 보이므로 둘 다 무효화)
+ */
+@Component
+class ReservationDashboardCache(
+    private val redisTemplate: RedisTemplate<String, String>,
+    private val objectMapper: ObjectMapper
+) {
+    companion object {
+        private val log = LoggerFactory.getLogger(ReservationDashboardCache::class.java)
+
+        private const val KEY_PREFIX = "reservation:dashboard:"
+        private const val GENERATION_KEY_PREFIX = "reservation:dashboard:gen:"
+        private val TTL: Duration = Duration.ofMinutes(5)
+    }
+
+    data class CachedPage(
+        val content: List<MyReservationInfoResponse>,
+        val totalElements: Long
+    )
+
+    fun getOrLoad(
+        userId: Long,
+        type: ReservationDashboardType,
+        statuses: Collection<ReservationStatus>?,
+        pageable: Pageable,
+        includeArchived: Boolean = false,
+        loader: () -> Page<MyReservationInfoResponse>
+    ): Page<MyReservationInfoResponse> {
+        val statusKey = statuses?.map { it.name }?.sorted()?.joinToString(",") ?: "all"
+        val pageKey = if (pageable.isPaged) "${pageable.pageNumber}:${pageable.pageSize}" else "all"
+        val scope = if (includeArchived) "archived" else "recent"
+        val key = "$KEY_PREFIX$userId:${currentGeneration(userId)}:$type:$scope:$statusKey:$pageKey"
+
+        read(key)?.let { return PageImpl(it.content, pageable, it.totalElements) }
+
+        val page = loader()
+        write(key, CachedPage(page.content, page.totalElements))
+        return page
+    }
+
+    // 상태 변경은 커밋 이후 무효화 (Reservation 이 등록한 이벤트)
+    @TransactionalEventListener
+    fun onStatusChanged(event: ReservationStatusChangedEvent) {
+        evict(listOf(event.renterId, event.ownerId))
+    }
+
+    // 예약 생성, 리뷰 작성 등: 트랜잭션 안이면 커밋 이후, 아니면 바로 무효화
+    fun evictAfterCommit(userIds: Collection<Long>) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(userIds)
+            return
+        }
+        TransactionSynchronizationManager.registerSynchronization(object : TransactionSynchronization {
+            override fun afterCommit() {
+                evict(userIds)
+            }
+        })
+    }
+
+    fun evict(userIds: Collection<Long>) {
+        try {
+            userIds.toSet().forEach { redisTemplate.opsForValue().increment(GENERATION_KEY_PREFIX + it) }
+        } catch (e: DataAccessException) {
+            log.warn("예약 목록 캐시 무효화 실패: userIds={}, {}", userIds, e.message)
+        }
+    }
+
+    private fun currentGeneration(userId: Long): String {
+        return try {
+            redisTemplate.opsForValue()[GENERATION_KEY_PREFIX + userId] ?: "0"
+        } catch (e: DataAccessException) {
+            log.warn("예약 목록 캐시 세대 조회 실패: userId={}, {}", userId, e.message)
+            "0"
+        }
+    }
+
+    private fun read(key: String): CachedPage? {
+        return try {
+            redisTemplate.opsForValue()[key]?.let { objectMapper.readValue(it, CachedPage::class.java) }
+        } catch (e: DataAccessException) {
+            log.warn("예약 목록 캐시 조회 실패: {}", e.message)
+            null
+        } catch (e: JsonProcessingException) {
+            log.warn("예약 목록 캐시 역직렬화 실패: {}", e.message)
+            null
+        }
+    }
+
+    private fun write(key: String, page: CachedPage) {
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(page), TTL)
+        } catch (e: DataAccessException) {
+            log.warn("예약 목록 캐시 저장 실패: {}", e.message)
+        }
+    }
+}
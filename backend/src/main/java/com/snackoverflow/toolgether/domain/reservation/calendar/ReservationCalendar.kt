@@ -0,0 +1,147 @@
+package com.snackoverflow.toolgether.domain.reservation.calendar
+
+import org.springframework.stereotype.Component
+import java.time.LocalDateTime
+import java.util.*
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * 게시물별 예약 달력 (메모리)
+ * 점유 중인 기간을 겹치지 않게 병합해 TreeMap(시작 -> 종료) 으로 보관하므로 충돌 검사는 O(log n)
+ *
+ * - confirmed: DB 에 커밋된 점유 기간 (달력 버전과 함께 적재)
+ * - holds: 현재 트랜잭션에서 잡고 있는 임시 점유 (커밋되면 confirmed 로, 롤백되면 제거)
+ *
+ * 다른 서버에서 추가된 예약은 달력 버전(ReservationCalendarVersion)이 달라지는 것으로 감지해 다시 적재하고,
+ * 다른 서버에서 취소 / 거절된 예약은 충돌이 났을 때 DB 를 다시 읽어 확인한다
+ */
+@Component
+class ReservationCalendar {
+    companion object {
+        const val UNKNOWN_VERSION = -1L
+    }
+
+    private val calendars = ConcurrentHashMap<Long, PostCalendar>()
+
+    /**
+     * 기간을 임시 점유
+     * @param version 현재 트랜잭션에서 읽은 달력 버전
+     * @param loader DB 에서 점유 중인 기간을 읽어오는 함수
+     * @return 충돌이 있으면 null
+     */
+    fun tryHold(
+        postId: Long,
+        version: Long,
+        startTime: LocalDateTime,
+        endTime: LocalDateTime,
+        loader: () -> List<TimeRange>
+    ): Hold? {
+        val range = TimeRange(startTime, endTime)
+        val calendar = calendars.computeIfAbsent(postId) { PostCalendar() }
+
+        synchronized(calendar) {
+            if (calendar.version != version) {
+                calendar.load(loader(), version)
+            }
+
+            if (calendar.overlapsHold(range)) return null
+
+            if (calendar.overlapsConfirmed(range)) {
+                // 다른 서버에서 취소 / 거절되어 비어 있을 수 있으므로 DB 기준으로 한 번 더 확인
+                calendar.load(loader(), version)
+                if (calendar.overlapsConfirmed(range)) return null
+            }
+
+            val hold = Hold(postId, range, version)
+            calendar.holds.add(hold)
+            return hold
+        }
+    }
+
+    // 커밋 완료: 임시 점유를 확정하고 달력 버전을 갱신
+    fun confirm(hold: Hold, newVersion: Long) {
+        val calendar = calendars[hold.postId] ?: return
+        synchronized(calendar) {
+            calendar.holds.remove(hold)
+            if (calendar.version == hold.version) {
+                calendar.add(hold.range)
+                calendar.version = newVersion
+            } else {
+                // 그 사이 다른 변경이 있었으면 다음 요청에서 다시 적재
+                calendar.version = UNKNOWN_VERSION
+            }
+        }
+    }
+
+    // 롤백: 임시 점유 해제
+    fun release(hold: Hold) {
+        val calendar = calendars[hold.postId] ?: return
+        synchronized(calendar) {
+            calendar.holds.remove(hold)
+        }
+    }
+
+    // 예약이 취소 / 거절 / 종료되어 점유가 풀린 게시물은 다음 요청에서 다시 적재
+    fun evict(postId: Long) {
+        val calendar = calendars[postId] ?: return
+        synchronized(calendar) {
+            calendar.version = UNKNOWN_VERSION
+        }
+    }
+
+    data class TimeRange(val startTime: LocalDateTime, val endTime: LocalDateTime) {
+        init {
+            require(startTime.isBefore(endTime)) { "대여 시작 시간은 종료 시간보다 빨라야 합니다." }
+        }
+
+        fun overlaps(other: TimeRange): Boolean = startTime < other.endTime && other.startTime < endTime
+    }
+
+    // equals 를 재정의하지 않아 같은 기간이라도 요청마다 다른 점유로 취급
+    class Hold(val postId: Long, val range: TimeRange, val version: Long)
+
+    private class PostCalendar {
+        var version: Long = UNKNOWN_VERSION
+        val confirmed = TreeMap<LocalDateTime, LocalDateTime>() // 병합된 점유 기간 (시작 -> 종료)
+        val holds = mutableListOf<Hold>() // 동시에 진행 중인 요청 수만큼만 존재
+
+        fun load(ranges: List<TimeRange>, version: Long) {
+            confirmed.clear()
+            ranges.forEach { add(it) }
+            this.version = version
+        }
+
+        fun overlapsConfirmed(range: TimeRange): Boolean {
+            // 병합되어 서로 겹치지 않으므로 시작점 바로 앞 / 뒤의 구간만 확인하면 된다
+            val before = confirmed.floorEntry(range.startTime)
+            if (before != null && before.value > range.startTime) return true
+
+            val after = confirmed.higherEntry(range.startTime)
+            return after != null && after.key < range.endTime
+        }
+
+        fun overlapsHold(range: TimeRange): Boolean = holds.any { it.range.overlaps(range) }
+
+        // 겹치거나 맞닿은 구간과 병합해서 추가
+        fun add(range: TimeRange) {
+            var start = range.startTime
+            var end = range.endTime
+
+            confirmed.floorEntry(start)?.let {
+                if (it.value >= start) {
+                    start = it.key
+                    if (it.value > end) end = it.value
+                }
+            }
+
+            while (true) {
+                val next = confirmed.ceilingEntry(start) ?: break
+                if (next.key > end) break
+                if (next.value > end) end = next.value
+                confirmed.remove(next.key)
+            }
+
+            confirmed[start] = end
+        }
+    }
+}
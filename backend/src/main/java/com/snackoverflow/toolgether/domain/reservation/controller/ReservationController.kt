@@ -1,24 +1,48 @@
 package com.snackoverflow.toolgether.domain.reservation.controller
 
+import com.snackoverflow.toolgether.domain.reservation.dto.AvailabilityResponse
 import com.snackoverflow.toolgether.domain.reservation.dto.PostReservationResponse
+import com.snackoverflow.toolgether.domain.reservation.dto.ReservationBatchRequest
 import com.snackoverflow.toolgether.domain.reservation.dto.ReservationRequest
 import com.snackoverflow.toolgether.domain.reservation.dto.ReservationResponse
 import com.snackoverflow.toolgether.domain.reservation.entity.FailDue
+import com.snackoverflow.toolgether.domain.reservation.service.ReservationAvailabilityService
 import com.snackoverflow.toolgether.domain.reservation.service.ReservationService
 import com.snackoverflow.toolgether.global.dto.RsData
+import org.springframework.format.annotation.DateTimeFormat
 import org.springframework.web.bind.annotation.*
+import java.time.LocalDateTime
 
 @RestController
 @RequestMapping("/api/v1/reservations")
 class ReservationController(
-    private val reservationService: ReservationService
+    private val reservationService: ReservationService,
+    private val availabilityService: ReservationAvailabilityService
 ) {
+    // 조회 구간 안의 예약 가능한 시간대 (거래 가능 일정 - 승인 / 진행 중 예약)
+    @GetMapping("/availability/{postId}")
+    fun getAvailability(
+        @PathVariable postId: Long,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) from: LocalDateTime,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) to: LocalDateTime
+    ): RsData<AvailabilityResponse> {
+        val response = availabilityService.getAvailability(postId, from, to)
+        return RsData("200-1", "예약 가능 시간 조회 성공", response)
+    }
+
     @PostMapping("/request")
     fun createReservation(@RequestBody reservationRequest: ReservationRequest): RsData<ReservationResponse> {
         val response = reservationService.requestReservation(reservationRequest)
         return RsData("201-1", "예약 요청 성공", response)
     }
 
+    // 여러 물건 일괄 예약 (전부 성공하거나 전부 실패)
+    @PostMapping("/request/batch")
+    fun createReservations(@RequestBody batchRequest: ReservationBatchRequest): RsData<List<ReservationResponse>> {
+        val response = reservationService.requestReservations(batchRequest)
+        return RsData("201-1", "일괄 예약 요청 성공", response)
+    }
+
     // 예약 상태를 승인으로 바꾼 후 DepositHistory 생성
     @PatchMapping("/{id}/approve")
     fun approveReservation(@PathVariable id: Long): RsData<Void> {
@@ -0,0 +1,12 @@
+package com.snackoverflow.toolgether.domain.reservation.dto
+
+import com.snackoverflow.toolgether.domain.reservation.availability.TimeSlot
+import java.time.LocalDateTime
+
+// 조회 구간 안의 예약 가능한 시간대
+data class AvailabilityResponse(
+    val postId: Long,
+    val from: LocalDateTime,
+    val to: LocalDateTime,
+    val slots: List<TimeSlot>
+)
@@ -0,0 +1,17 @@
+package com.snackoverflow.toolgether.domain.reservation.dto
+
+import java.time.LocalDateTime
+
+// 여러 물건을 한 번에 예약 (전부 성공하거나 전부 실패)
+data class ReservationBatchRequest(
+    val renterId: Long,
+    val items: List<Item>
+) {
+    data class Item(
+        val postId: Long,
+        val startTime: LocalDateTime,
+        val endTime: LocalDateTime,
+        val deposit: Double,
+        val rentalFee: Double
+    )
+}
@@ -0,0 +1,7 @@
+package com.snackoverflow.toolgether.domain.reservation.dto
+
+// 마이페이지 예약 목록 구분
+enum class ReservationDashboardType {
+    RENTALS, // 내 물건을 빌려준 예약 (소유자)
+    BORROWS // 내가 빌린 예약 (대여자)
+}
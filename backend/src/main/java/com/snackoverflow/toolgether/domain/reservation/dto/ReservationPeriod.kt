@@ -0,0 +1,9 @@
+package com.snackoverflow.toolgether.domain.reservation.dto
+
+import java.time.LocalDateTime
+
+// 예약 기간만 필요한 조회용 프로젝션 (엔티티를 읽지 않고 idx_reservation_post_start_end 인덱스만으로 조회)
+interface ReservationPeriod {
+    val startTime: LocalDateTime
+    val endTime: LocalDateTime
+}
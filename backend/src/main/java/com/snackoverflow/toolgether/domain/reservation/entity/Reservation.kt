@@ -1,13 +1,29 @@
 package com.snackoverflow.toolgether.domain.reservation.entity
 
+import com.snackoverflow.toolgether.domain.deposit.entity.ReturnReason
 import com.snackoverflow.toolgether.domain.post.entity.Post
 import com.snackoverflow.toolgether.domain.post.entity.enums.Category
 import com.snackoverflow.toolgether.domain.post.entity.enums.PriceType
+import com.snackoverflow.toolgether.domain.reservation.event.ReservationStatusChangedEvent
 import com.snackoverflow.toolgether.domain.user.entity.User
 import jakarta.persistence.*
+import org.springframework.data.domain.AbstractAggregateRoot
 import java.time.LocalDateTime
 
 @Entity
+@Table(
+    // 예약 조회 경로 인덱스는 여기에서만 정의 (스키마는 ddl-auto 로 생성)
+    indexes = [
+        // 대여 시작 / 종료 스케줄러가 상태별로 시간이 지난 예약을 찾을 때 사용
+        Index(name = "idx_reservation_status_start_time", columnList = "status, startTime"),
+        Index(name = "idx_reservation_status_end_time", columnList = "status, endTime"),
+        // 게시물별 기간 겹침 조회 (달력 적재 / 예약 가능 시간 / 일괄 예약 충돌 검사), status 까지 포함해 인덱스만으로 처리
+        Index(name = "idx_reservation_post_start_end", columnList = "post_id, startTime, endTime, status"),
+        // 마이페이지 예약 목록 (시작 시간 역순)
+        Index(name = "idx_reservation_renter_start_time", columnList = "renter_id, startTime"),
+        Index(name = "idx_reservation_owner_start_time", columnList = "owner_id, startTime")
+    ]
+)
 class Reservation(
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -43,7 +59,7 @@ class Reservation(
 
     @Column(nullable = false)
     var amount: Double = 0.0 // 총 결제 금액
-) {
+) : AbstractAggregateRoot<Reservation>() { // 상태 변경 이벤트는 reservationRepository.save 시 발행 -> outbox 기록
     constructor(
         post: Post,
         renter: User,
@@ -73,18 +89,21 @@ class Reservation(
     fun approve() {
         check(this.status == ReservationStatus.REQUESTED) { "요청된 예약만 수락할 수 있습니다." }
         this.status = ReservationStatus.APPROVED
+        statusChanged()
     }
 
     // 진행 중
     fun startRental() {
         check(this.status == ReservationStatus.APPROVED) { "수락된 예약만 대여할 수 있습니다." }
         this.status = ReservationStatus.IN_PROGRESS
+        statusChanged()
     }
 
     // 완료
     fun completeRental() {
         check(this.status == ReservationStatus.IN_PROGRESS) { "대여 중인 예약만 완료 가능합니다." }
         this.status = ReservationStatus.DONE
+        statusChanged()
     }
 
     // 거절 -> 사유 포함
@@ -94,23 +113,34 @@ class Reservation(
         if (reason != null) {
             this.rejectionReason = reason
         }
+        statusChanged()
     }
 
     // 소유자 문제로 실패함
-    fun failDueToOwnerIssue() {
+    @JvmOverloads
+    fun failDueToOwnerIssue(returnReason: ReturnReason? = null) {
         check(!(this.status != ReservationStatus.APPROVED && this.status != ReservationStatus.IN_PROGRESS)) { "수락되었거나 진행 중인 예약만 실패 처리가 가능합니다." }
         this.status = ReservationStatus.FAILED_OWNER_ISSUE
+        statusChanged(returnReason)
     }
 
     // 대여자 문제로 실패함
-    fun failDueToRenterIssue() {
+    @JvmOverloads
+    fun failDueToRenterIssue(returnReason: ReturnReason? = null) {
         check(!(this.status != ReservationStatus.APPROVED && this.status != ReservationStatus.IN_PROGRESS)) { "수락되었거나 진행 중인 실패 처리가 가능합니다." }
         this.status = ReservationStatus.FAILED_RENTER_ISSUE
+        statusChanged(returnReason)
     }
 
     // 예약 요청 취소
     fun canceled() {
         check(this.status == ReservationStatus.REQUESTED) { "요청 대기 상태에서만 취소 처리가 가능합니다." }
         this.status = ReservationStatus.CANCELED
+        statusChanged()
+    }
+
+    private fun statusChanged(returnReason: ReturnReason? = null) {
+        val reservationId = id ?: return // 저장 전 엔티티는 후속 처리 대상이 아님
+        registerEvent(ReservationStatusChangedEvent(this, reservationId, renter.id!!, owner.id!!, status, returnReason))
     }
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.snackoverflow.toolgether.domain.reservation.entity
+
+import jakarta.persistence.*
+import java.time.LocalDateTime
+
+/**
+ * 보관 기간이 지난 종료 예약 (ReservationArchiver 가 reservation 테이블에서 옮김)
+ * 원본 ID 를 그대로 사용하고, 게시물 / 사용자는 ID 로만 보관 (게시물 제목은 옮길 때의 값)
+ */
+@Entity
+@Table(
+    name = "reservation_archive",
+    indexes = [
+        Index(name = "idx_reservation_archive_renter", columnList = "renterId, startTime"),
+        Index(name = "idx_reservation_archive_owner", columnList = "ownerId, startTime"),
+        Index(name = "idx_reservation_archive_post", columnList = "postId")
+    ]
+)
+class ReservationArchive(
+    @Id
+    var id: Long,
+
+    @Column(nullable = false)
+    var postId: Long,
+
+    var postTitle: String? = null,
+
+    @Column(nullable = false)
+    var renterId: Long,
+
+    @Column(nullable = false)
+    var ownerId: Long,
+
+    @Column(nullable = false)
+    var createAt: LocalDateTime,
+
+    @Column(nullable = false)
+    var startTime: LocalDateTime,
+
+    @Column(nullable = false)
+    var endTime: LocalDateTime,
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    var status: ReservationStatus,
+
+    @Column(columnDefinition = "TEXT")
+    var rejectionReason: String? = null,
+
+    @Column(nullable = false)
+    var amount: Double = 0.0,
+
+    @Column(nullable = false)
+    var archivedAt: LocalDateTime
+)
@@ -0,0 +1,28 @@
+package com.snackoverflow.toolgether.domain.reservation.entity
+
+import jakarta.persistence.Column
+import jakarta.persistence.Entity
+import jakarta.persistence.Id
+import jakarta.persistence.Version
+import java.time.LocalDateTime
+
+/**
+ * 게시물별 예약 달력 버전 (낙관적 락)
+ * 예약이 추가될 때마다 버전을 올려서, 같은 게시물에 동시에 들어온 예약 중 하나만 커밋되도록 한다
+ */
+@Entity
+class ReservationCalendarVersion(
+    @Id
+    var postId: Long,
+
+    @Version
+    var version: Long? = null, // null 이면 새 엔티티로 persist
+
+    @Column(nullable = false)
+    var updatedAt: LocalDateTime = LocalDateTime.now()
+) {
+    // 값을 변경해 flush 시 버전 검사 + 증가가 일어나도록 함
+    fun touch() {
+        this.updatedAt = LocalDateTime.now()
+    }
+}
@@ -0,0 +1,61 @@
+package com.snackoverflow.toolgether.domain.reservation.entity
+
+import com.snackoverflow.toolgether.domain.deposit.entity.ReturnReason
+import jakarta.persistence.*
+import java.time.LocalDateTime
+
+/**
+ * 예약 상태 변경 outbox
+ * 상태 변경과 같은 트랜잭션에서 기록하고, 보증금 / 크레딧 / 알림 처리는 ReservationOutboxDispatcher 가 모아서 처리
+ * idempotencyKey(예약 ID + 상태) 가 유일하므로 같은 상태 변경의 후속 처리는 한 번만 기록된다
+ */
+@Entity
+@Table(
+    name = "reservation_outbox",
+    indexes = [Index(name = "idx_reservation_outbox_pending", columnList = "processedAt, id")],
+    uniqueConstraints = [UniqueConstraint(name = "uk_reservation_outbox_key", columnNames = ["idempotencyKey"])]
+)
+class ReservationOutbox(
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    var id: Long? = null,
+
+    @Column(nullable = false, length = 64)
+    var idempotencyKey: String,
+
+    @Column(nullable = false)
+    var reservationId: Long,
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    var status: ReservationStatus, // 변경된 상태
+
+    @Enumerated(EnumType.STRING)
+    var returnReason: ReturnReason? = null,
+
+    @Column(nullable = false)
+    var createdAt: LocalDateTime = LocalDateTime.now(),
+
+    var processedAt: LocalDateTime? = null, // null 이면 처리 대기
+
+    @Column(nullable = false)
+    var attempts: Int = 0, // 처리 실패 횟수
+
+    @Column(length = 500)
+    var lastError: String? = null
+) {
+    companion object {
+        fun of(reservationId: Long, status: ReservationStatus, returnReason: ReturnReason? = null): ReservationOutbox {
+            return ReservationOutbox(
+                idempotencyKey = "$reservationId:${status.name}",
+                reservationId = reservationId,
+                status = status,
+                returnReason = returnReason
+            )
+        }
+    }
+
+    fun markProcessed(processedAt: LocalDateTime) {
+        this.processedAt = processedAt
+    }
+}
@@ -1,5 +1,7 @@
 package com.snackoverflow.toolgether.domain.reservation.entity
 
+import java.util.EnumSet
+
 enum class ReservationStatus {
     REQUESTED,  // 요청됨
     APPROVED,  // 승인됨
@@ -8,5 +10,11 @@ enum class ReservationStatus {
     DONE,  // 정상 완료됨
     FAILED_OWNER_ISSUE,  // 소유자 문제로 실패함
     FAILED_RENTER_ISSUE,  // 대여자 문제로 실패함
-    CANCELED // 취소됨
+    CANCELED; // 취소됨
+
+    companion object {
+        // 일정을 점유하는 상태 (일정 충돌 검사 대상)
+        @JvmField
+        val ACTIVE: Set<ReservationStatus> = EnumSet.of(REQUESTED, APPROVED, IN_PROGRESS)
+    }
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.snackoverflow.toolgether.domain.reservation.event
+
+import com.snackoverflow.toolgether.domain.deposit.entity.ReturnReason
+import com.snackoverflow.toolgether.domain.reservation.entity.ReservationStatus
+import org.springframework.context.ApplicationEvent
+
+// 예약 상태 변경 이벤트 (같은 트랜잭션에서 outbox 에 기록 -> 보증금 / 크레딧 / 알림은 비동기로 처리)
+class ReservationStatusChangedEvent(
+    source: Any,
+    val reservationId: Long,
+    val renterId: Long,
+    val ownerId: Long,
+    val status: ReservationStatus, // 변경된 상태
+    val returnReason: ReturnReason? = null // 실패 처리 시 보증금 반환 사유
+) : ApplicationEvent(source)
@@ -0,0 +1,33 @@
+package com.snackoverflow.toolgether.domain.reservation.outbox
+
+import com.snackoverflow.toolgether.domain.deposit.entity.ReturnReason
+import com.snackoverflow.toolgether.domain.reservation.entity.ReservationOutbox
+import com.snackoverflow.toolgether.domain.reservation.entity.ReservationStatus
+import com.snackoverflow.toolgether.domain.reservation.event.ReservationStatusChangedEvent
+import com.snackoverflow.toolgether.domain.reservation.repository.ReservationOutboxRepository
+import org.springframework.context.event.EventListener
+import org.springframework.stereotype.Component
+import org.springframework.transaction.annotation.Propagation
+import org.springframework.transaction.annotation.Transactional
+
+/**
+ * 예약 상태 변경을 outbox 에 기록
+ * 상태 변경과 반드시 같은 트랜잭션에서 기록되어야 하므로 트랜잭션 밖에서 호출되면 예외
+ */
+@Component
+class ReservationOutboxAppender(
+    private val outboxRepository: ReservationOutboxRepository
+) {
+    // Reservation 의 상태 변경 메서드가 등록한 이벤트 (reservationRepository.save 시 발행)
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    fun onStatusChanged(event: ReservationStatusChangedEvent) {
+        outboxRepository.save(ReservationOutbox.of(event.reservationId, event.status, event.returnReason))
+    }
+
+    // 일괄 UPDATE 로 상태를 바꾼 경우
+    @Transactional(propagation = Propagation.MANDATORY)
+    fun appendAll(reservationIds: Collection<Long>, status: ReservationStatus, returnReason: ReturnReason? = null) {
+        outboxRepository.saveAll(reservationIds.map { ReservationOutbox.of(it, status, returnReason) })
+    }
+}
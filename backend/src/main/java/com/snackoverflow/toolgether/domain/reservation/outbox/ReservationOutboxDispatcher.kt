@@ -0,0 +1,154 @@
+package com.snackoverflow.toolgether.domain.reservation.outbox
+
+import com.snackoverflow.toolgether.domain.deposit.entity.DepositHistory
+import com.snackoverflow.toolgether.domain.deposit.entity.DepositStatus
+import com.snackoverflow.toolgether.domain.deposit.entity.ReturnReason
+import com.snackoverflow.toolgether.domain.deposit.repository.DepositHistoryRepository
+import com.snackoverflow.toolgether.domain.notification.service.NotificationService
+import com.snackoverflow.toolgether.domain.reservation.entity.Reservation
+import com.snackoverflow.toolgether.domain.reservation.entity.ReservationOutbox
+import com.snackoverflow.toolgether.domain.reservation.entity.ReservationStatus
+import com.snackoverflow.toolgether.domain.reservation.repository.ReservationOutboxRepository
+import com.snackoverflow.toolgether.domain.reservation.repository.ReservationRepository
+import com.snackoverflow.toolgether.domain.user.entity.CreditReason
+import com.snackoverflow.toolgether.domain.user.repository.CreditLedgerWriter.CreditEntry
+import com.snackoverflow.toolgether.domain.user.service.UserCreditService
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.data.domain.PageRequest
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.support.TransactionTemplate
+import java.time.LocalDateTime
+
+/**
+ * 예약 outbox 처리 (보증금 반환 / 크레딧 정산 / 알림)
+ * 대기 중인 outbox 를 batchSize 개씩 잠그고(SKIP LOCKED) 한 트랜잭션에서 후속 처리 + 처리 완료 표시를 함께 커밋
+ * -> 여러 서버에서 실행해도 같은 outbox 를 두 번 처리하지 않고, 실패하면 전부 롤백되어 다음 주기에 다시 처리
+ *
+ * 배치가 실패하면 한 건씩 다시 처리해서 실패한 outbox 만 실패 횟수를 올리고, MAX_ATTEMPTS 번 실패하면 더 이상 꺼내지 않는다
+ */
+@Component
+class ReservationOutboxDispatcher(
+    private val outboxRepository: ReservationOutboxRepository,
+    private val reservationRepository: ReservationRepository,
+    private val depositHistoryRepository: DepositHistoryRepository,
+    private val userCreditService: UserCreditService,
+    private val notificationService: NotificationService,
+    transactionManager: PlatformTransactionManager,
+    @Value("\${custom.reservation.outbox.batch-size:100}") private val batchSize: Int
+) {
+    companion object {
+        private val log = LoggerFactory.getLogger(ReservationOutboxDispatcher::class.java)
+
+        private const val MAX_ATTEMPTS = 5
+    }
+
+    private val transactionTemplate = TransactionTemplate(transactionManager)
+
+    @Scheduled(fixedDelayString = "\${custom.reservation.outbox.dispatch-interval-ms:1000}")
+    fun dispatch() {
+        while (true) {
+            val processed = try {
+                transactionTemplate.execute { dispatchBatch() } ?: 0
+            } catch (e: Exception) {
+                log.warn("예약 outbox 일괄 처리 실패, 한 건씩 다시 처리합니다: {}", e.message)
+                dispatchIndividually()
+                return
+            }
+            if (processed < batchSize) return
+        }
+    }
+
+    private fun dispatchBatch(): Int {
+        val outboxes = outboxRepository.findPendingForUpdate(MAX_ATTEMPTS, PageRequest.of(0, batchSize))
+        if (outboxes.isEmpty()) return 0
+
+        apply(outboxes)
+
+        val now = LocalDateTime.now()
+        outboxes.forEach { it.markProcessed(now) }
+
+        log.debug("예약 outbox 처리 - {}건", outboxes.size)
+        return outboxes.size
+    }
+
+    private fun dispatchIndividually() {
+        outboxRepository.findPendingIds(MAX_ATTEMPTS, PageRequest.of(0, batchSize)).forEach { id ->
+            try {
+                transactionTemplate.executeWithoutResult {
+                    outboxRepository.findPendingByIdForUpdate(id)?.let { outbox ->
+                        apply(listOf(outbox))
+                        outbox.markProcessed(LocalDateTime.now())
+                    }
+                }
+            } catch (e: Exception) {
+                log.error("예약 outbox 처리 실패: outboxId={}", id, e)
+                transactionTemplate.executeWithoutResult { outboxRepository.recordFailure(id, e.message?.take(500)) }
+            }
+        }
+    }
+
+    // 후속 처리: 보증금은 아직 반환되지 않은 경우에만 반환하고 크레딧은 변동 내역과 함께 한 번에 반영
+    private fun apply(outboxes: List<ReservationOutbox>) {
+        val reservationIds = outboxes.map { it.reservationId }.toSet()
+        val reservations = reservationRepository.findAllWithPostByIdIn(reservationIds).associateBy { it.id!! }
+        val deposits = depositHistoryRepository.findByReservationIdIn(reservationIds).associateBy { it.reservation.id!! }
+        val credits = mutableListOf<CreditEntry>()
+
+        outboxes.forEach { outbox ->
+            val reservation = reservations[outbox.reservationId]
+            if (reservation == null) {
+                log.warn("예약 outbox 의 예약이 없습니다: outboxId={}, reservationId={}", outbox.id, outbox.reservationId)
+                return@forEach
+            }
+
+            refund(outbox, reservation, deposits[outbox.reservationId])?.let { credits.add(it) }
+            notify(outbox.status, reservation)
+        }
+
+        userCreditService.apply(credits)
+    }
+
+    // 보증금 반환 처리 후 반영할 크레딧을 반환 (반환 대상이 아니거나 이미 반환되었으면 null)
+    private fun refund(outbox: ReservationOutbox, reservation: Reservation, deposit: DepositHistory?): CreditEntry? {
+        val renterId = reservation.renter.id!!
+        val (returnReason, receiverId) = when (outbox.status) {
+            ReservationStatus.REJECTED, ReservationStatus.CANCELED -> ReturnReason.REJECTED to renterId
+            ReservationStatus.DONE -> ReturnReason.NORMAL_COMPLETION to renterId
+            ReservationStatus.FAILED_OWNER_ISSUE -> (outbox.returnReason ?: ReturnReason.NONE) to renterId
+            ReservationStatus.FAILED_RENTER_ISSUE -> (outbox.returnReason ?: ReturnReason.NONE) to reservation.owner.id!!
+            else -> return null
+        }
+        if (deposit == null || deposit.status == DepositStatus.RETURNED) return null
+
+        deposit.changeStatus(DepositStatus.RETURNED)
+        deposit.changeReturnReason(returnReason)
+
+        val creditReason = if (receiverId == renterId) CreditReason.DEPOSIT_RETURN else CreditReason.DEPOSIT_COMPENSATION
+        return CreditEntry(receiverId, deposit.amount, creditReason, "deposit:${deposit.id}") // 보증금당 한 번만 반영
+    }
+
+    private fun notify(status: ReservationStatus, reservation: Reservation) {
+        val prefix = "[${reservation.id}] '${reservation.post.title}'"
+        val renterId = reservation.renter.id
+        val ownerId = reservation.owner.id
+
+        when (status) {
+            ReservationStatus.APPROVED -> notificationService.createNotification(renterId, "$prefix 예약이 승인되었습니다.")
+            ReservationStatus.REJECTED -> notificationService.createNotification(renterId, "$prefix 예약이 거절되었습니다.")
+            ReservationStatus.CANCELED -> notificationService.createNotification(ownerId, "$prefix 예약이 취소되었습니다.")
+            ReservationStatus.IN_PROGRESS -> notifyBoth(renterId, ownerId, "$prefix 대여가 시작되었습니다.")
+            ReservationStatus.DONE -> notifyBoth(renterId, ownerId, "$prefix 대여가 완료되었습니다.")
+            ReservationStatus.FAILED_OWNER_ISSUE, ReservationStatus.FAILED_RENTER_ISSUE ->
+                notifyBoth(renterId, ownerId, "$prefix 대여가 실패했습니다.")
+            else -> Unit
+        }
+    }
+
+    private fun notifyBoth(renterId: Long?, ownerId: Long?, message: String) {
+        notificationService.createNotification(renterId, message)
+        notificationService.createNotification(ownerId, message)
+    }
+}
@@ -0,0 +1,79 @@
+package com.snackoverflow.toolgether.domain.reservation.repository
+
+import com.snackoverflow.toolgether.domain.deposit.entity.DepositStatus
+import com.snackoverflow.toolgether.domain.deposit.entity.ReturnReason
+import com.snackoverflow.toolgether.domain.reservation.entity.ReservationStatus
+import org.springframework.jdbc.core.ConnectionCallback
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.stereotype.Repository
+import java.sql.Statement
+import java.sql.Timestamp
+import java.time.LocalDateTime
+
+/**
+ * 일괄 예약용 JDBC 배치 INSERT
+ * 예약 / 보증금 내역을 각각 한 번의 배치로 저장 (JPA IDENTITY 전략은 건마다 INSERT 가 나가므로 사용하지 않음)
+ * 호출하는 쪽의 트랜잭션 커넥션을 그대로 사용한다
+ */
+@Repository
+class ReservationBatchWriter(
+    private val jdbcTemplate: JdbcTemplate
+) {
+    companion object {
+        private const val INSERT_RESERVATION =
+            "INSERT INTO reservation (post_id, renter_id, owner_id, create_at, start_time, end_time, status, amount) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?)"
+
+        private const val INSERT_DEPOSIT_HISTORY =
+            "INSERT INTO deposit_history (reservation_id, user_id, amount, status, return_reason) VALUES (?, ?, ?, ?, ?)"
+    }
+
+    data class NewReservation(
+        val postId: Long,
+        val renterId: Long,
+        val ownerId: Long,
+        val startTime: LocalDateTime,
+        val endTime: LocalDateTime,
+        val amount: Double,
+        val deposit: Int
+    )
+
+    // 저장된 예약 ID 를 입력 순서대로 반환
+    fun insert(rows: List<NewReservation>): List<Long> {
+        val now = Timestamp.valueOf(LocalDateTime.now())
+
+        val reservationIds = jdbcTemplate.execute(ConnectionCallback { connection ->
+            connection.prepareStatement(INSERT_RESERVATION, Statement.RETURN_GENERATED_KEYS).use { ps ->
+                rows.forEach {
+                    ps.setLong(1, it.postId)
+                    ps.setLong(2, it.renterId)
+                    ps.setLong(3, it.ownerId)
+                    ps.setTimestamp(4, now)
+                    ps.setTimestamp(5, Timestamp.valueOf(it.startTime))
+                    ps.setTimestamp(6, Timestamp.valueOf(it.endTime))
+                    ps.setString(7, ReservationStatus.REQUESTED.name)
+                    ps.setDouble(8, it.amount)
+                    ps.addBatch()
+                }
+                ps.executeBatch()
+
+                ps.generatedKeys.use { keys ->
+                    val ids = mutableListOf<Long>()
+                    while (keys.next()) ids.add(keys.getLong(1))
+                    ids
+                }
+            }
+        })!!
+        check(reservationIds.size == rows.size) { "생성된 예약 ID 개수가 요청 개수와 다릅니다." }
+
+        jdbcTemplate.batchUpdate(INSERT_DEPOSIT_HISTORY, rows.indices.toList(), rows.size) { ps, index ->
+            ps.setLong(1, reservationIds[index])
+            ps.setLong(2, rows[index].renterId)
+            ps.setInt(3, rows[index].deposit)
+            ps.setString(4, DepositStatus.PENDING.name)
+            ps.setString(5, ReturnReason.NONE.name)
+        }
+
+        return reservationIds
+    }
+}
@@ -0,0 +1,6 @@
+package com.snackoverflow.toolgether.domain.reservation.repository
+
+import com.snackoverflow.toolgether.domain.reservation.entity.ReservationCalendarVersion
+import org.springframework.data.jpa.repository.JpaRepository
+
+interface ReservationCalendarVersionRepository : JpaRepository<ReservationCalendarVersion, Long>
@@ -0,0 +1,32 @@
+package com.snackoverflow.toolgether.domain.reservation.repository
+
+import com.snackoverflow.toolgether.domain.reservation.entity.ReservationOutbox
+import jakarta.persistence.LockModeType
+import jakarta.persistence.QueryHint
+import org.springframework.data.domain.Pageable
+import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Lock
+import org.springframework.data.jpa.repository.Modifying
+import org.springframework.data.jpa.repository.Query
+import org.springframework.data.jpa.repository.QueryHints
+import org.springframework.data.repository.query.Param
+
+interface ReservationOutboxRepository : JpaRepository<ReservationOutbox, Long> {
+    // 처리 대기 중인 outbox (다른 서버가 처리 중인 행은 건너뜀 -> SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM ReservationOutbox o WHERE o.processedAt IS NULL AND o.attempts < :maxAttempts ORDER BY o.id")
+    fun findPendingForUpdate(@Param("maxAttempts") maxAttempts: Int, pageable: Pageable): List<ReservationOutbox>
+
+    @Query("SELECT o.id FROM ReservationOutbox o WHERE o.processedAt IS NULL AND o.attempts < :maxAttempts ORDER BY o.id")
+    fun findPendingIds(@Param("maxAttempts") maxAttempts: Int, pageable: Pageable): List<Long>
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM ReservationOutbox o WHERE o.id = :id AND o.processedAt IS NULL")
+    fun findPendingByIdForUpdate(@Param("id") id: Long): ReservationOutbox?
+
+    @Modifying
+    @Query("UPDATE ReservationOutbox o SET o.attempts = o.attempts + 1, o.lastError = :error WHERE o.id = :id")
+    fun recordFailure(@Param("id") id: Long, @Param("error") error: String?): Int
+}
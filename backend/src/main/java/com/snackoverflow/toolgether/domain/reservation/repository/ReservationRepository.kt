@@ -1,26 +1,75 @@
 package com.snackoverflow.toolgether.domain.reservation.repository
 
+import com.snackoverflow.toolgether.domain.reservation.dto.ReservationPeriod
 import com.snackoverflow.toolgether.domain.reservation.entity.Reservation
+import com.snackoverflow.toolgether.domain.reservation.entity.ReservationStatus
 import jakarta.persistence.LockModeType
+import jakarta.persistence.QueryHint
+import org.springframework.data.domain.Pageable
 import org.springframework.data.jpa.repository.JpaRepository
 import org.springframework.data.jpa.repository.Lock
+import org.springframework.data.jpa.repository.Modifying
 import org.springframework.data.jpa.repository.Query
+import org.springframework.data.jpa.repository.QueryHints
 import org.springframework.data.repository.query.Param
 import java.time.LocalDateTime
 
-interface ReservationRepository : JpaRepository<Reservation?, Long?> {
-    fun findByRenterId(renterId: Long): List<Reservation>
-    fun findByOwnerId(ownerId: Long): List<Reservation>
-    fun findByPostId(postId: Long): List<Reservation>
+interface ReservationRepository : JpaRepository<Reservation?, Long?>, ReservationRepositoryCustom {
+    fun findByPostIdAndStatusIn(postId: Long, statuses: Collection<ReservationStatus>): List<Reservation>
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE) // 락 적용
+    // 예약 달력 적재용: 일정을 점유 중인 예약의 기간 (락 없이 조회)
     @Query(
-        ("SELECT r FROM Reservation r WHERE r.post.id = :postId AND "
-                + "(r.startTime < :endTime AND r.endTime > :startTime)")
+        "SELECT r.startTime AS startTime, r.endTime AS endTime FROM Reservation r " +
+                "WHERE r.post.id = :postId AND r.status IN :statuses"
     )
-    fun findConflictingReservations(
-        @Param("postId") postId: Long?,
-        @Param("startTime") startTime: LocalDateTime?,
-        @Param("endTime") endTime: LocalDateTime?
-    ): List<Reservation?>?
-}
\ No newline at end of file
+    fun findPeriodsByPostId(
+        @Param("postId") postId: Long,
+        @Param("statuses") statuses: Collection<ReservationStatus>
+    ): List<ReservationPeriod>
+
+    // 예약 가능 시간 계산용: 구간과 겹치는 예약의 기간
+    @Query(
+        ("SELECT r.startTime AS startTime, r.endTime AS endTime FROM Reservation r "
+                + "WHERE r.post.id = :postId AND r.status IN :statuses AND "
+                + "(r.startTime < :to AND r.endTime > :from)")
+    )
+    fun findOverlapping(
+        @Param("postId") postId: Long,
+        @Param("statuses") statuses: Collection<ReservationStatus>,
+        @Param("from") from: LocalDateTime,
+        @Param("to") to: LocalDateTime
+    ): List<ReservationPeriod>
+
+    // outbox 후속 처리용: 알림에 게시물 제목이 필요하므로 함께 조회
+    @Query("SELECT r FROM Reservation r JOIN FETCH r.post WHERE r.id IN :ids")
+    fun findAllWithPostByIdIn(@Param("ids") ids: Collection<Long>): List<Reservation>
+
+    // 대여 시작 대상: 시작 시간이 지난 예약 (다른 서버가 잡고 있는 행은 건너뜀 -> SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT r FROM Reservation r WHERE r.status = :status AND r.startTime <= :now ORDER BY r.startTime")
+    fun findStartDueForUpdate(
+        @Param("status") status: ReservationStatus,
+        @Param("now") now: LocalDateTime,
+        pageable: Pageable
+    ): List<Reservation>
+
+    // 대여 종료 대상: 종료 시간이 지난 예약
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT r FROM Reservation r WHERE r.status = :status AND r.endTime <= :now ORDER BY r.endTime")
+    fun findEndDueForUpdate(
+        @Param("status") status: ReservationStatus,
+        @Param("now") now: LocalDateTime,
+        pageable: Pageable
+    ): List<Reservation>
+
+    // 상태 일괄 변경 (현재 상태가 from 인 예약만)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Reservation r SET r.status = :to WHERE r.id IN :ids AND r.status = :from")
+    fun updateStatus(
+        @Param("ids") ids: Collection<Long>,
+        @Param("from") from: ReservationStatus,
+        @Param("to") to: ReservationStatus
+    ): Int
+}
@@ -0,0 +1,32 @@
+package com.snackoverflow.toolgether.domain.reservation.repository
+
+import com.snackoverflow.toolgether.domain.reservation.dto.ReservationBatchRequest
+import com.snackoverflow.toolgether.domain.reservation.dto.ReservationDashboardType
+import com.snackoverflow.toolgether.domain.reservation.dto.ReservationResponse
+import com.snackoverflow.toolgether.domain.reservation.entity.Reservation
+import com.snackoverflow.toolgether.domain.reservation.entity.ReservationStatus
+import com.snackoverflow.toolgether.domain.user.dto.response.MyReservationInfoResponse
+import org.springframework.data.domain.Page
+import org.springframework.data.domain.Pageable
+
+interface ReservationRepositoryCustom {
+    // 여러 게시물 / 기간의 충돌 예약을 한 번의 쿼리로 조회
+    fun findConflicts(items: List<ReservationBatchRequest.Item>, statuses: Collection<ReservationStatus>): List<Reservation>
+
+    /**
+     * 마이페이지 예약 목록: 게시물 제목 / 대표 이미지 / 리뷰 작성 여부까지 한 번의 쿼리로 조회
+     * 기본은 reservation 테이블만 조회하고, includeArchived 이면 최근 예약 뒤에 보관된 예약을 이어서 조회
+     */
+    fun findDashboard(
+        userId: Long,
+        type: ReservationDashboardType,
+        statuses: Collection<ReservationStatus>?,
+        pageable: Pageable,
+        includeArchived: Boolean = false
+    ): Page<MyReservationInfoResponse>
+
+    // 대여자 / 소유자 / 게시물별 예약 (시작 시간 내림차순), includeArchived 이면 최근 예약 뒤에 보관된 예약을 이어서 반환
+    fun findByRenterId(renterId: Long, includeArchived: Boolean = false): List<ReservationResponse>
+    fun findByOwnerId(ownerId: Long, includeArchived: Boolean = false): List<ReservationResponse>
+    fun findByPostId(postId: Long, includeArchived: Boolean = false): List<ReservationResponse>
+}
@@ -0,0 +1,263 @@
+package com.snackoverflow.toolgether.domain.reservation.repository.impl
+
+import com.querydsl.core.BooleanBuilder
+import com.querydsl.core.types.Predicate
+import com.querydsl.core.types.Projections
+import com.querydsl.core.types.dsl.CaseBuilder
+import com.querydsl.core.types.dsl.NumberPath
+import com.querydsl.jpa.JPAExpressions
+import com.querydsl.jpa.JPQLQuery
+import com.querydsl.jpa.impl.JPAQueryFactory
+import com.snackoverflow.toolgether.domain.post.entity.QPost
+import com.snackoverflow.toolgether.domain.postimage.entity.QPostImage
+import com.snackoverflow.toolgether.domain.reservation.dto.ReservationBatchRequest
+import com.snackoverflow.toolgether.domain.reservation.dto.ReservationDashboardType
+import com.snackoverflow.toolgether.domain.reservation.dto.ReservationResponse
+import com.snackoverflow.toolgether.domain.reservation.entity.QReservation
+import com.snackoverflow.toolgether.domain.reservation.entity.QReservationArchive
+import com.snackoverflow.toolgether.domain.reservation.entity.Reservation
+import com.snackoverflow.toolgether.domain.reservation.entity.ReservationStatus
+import com.snackoverflow.toolgether.domain.reservation.repository.ReservationRepositoryCustom
+import com.snackoverflow.toolgether.domain.review.entity.QReview
+import com.snackoverflow.toolgether.domain.user.dto.response.MyReservationInfoResponse
+import org.springframework.data.domain.Page
+import org.springframework.data.domain.PageImpl
+import org.springframework.data.domain.Pageable
+import org.springframework.stereotype.Repository
+
+@Repository
+class ReservationRepositoryImpl(
+    private val queryFactory: JPAQueryFactory
+) : ReservationRepositoryCustom {
+    private val reservation: QReservation = QReservation.reservation
+    private val reservationArchive: QReservationArchive = QReservationArchive.reservationArchive
+
+    override fun findConflicts(
+        items: List<ReservationBatchRequest.Item>,
+        statuses: Collection<ReservationStatus>
+    ): List<Reservation> {
+        if (items.isEmpty()) return emptyList()
+
+        // (post = ? AND start < ? AND end > ?) OR (...) OR ...
+        val overlaps = BooleanBuilder()
+        items.forEach {
+            overlaps.or(
+                reservation.post.id.eq(it.postId)
+                    .and(reservation.startTime.lt(it.endTime))
+                    .and(reservation.endTime.gt(it.startTime))
+            )
+        }
+
+        return queryFactory
+            .selectFrom(reservation)
+            .where(reservation.status.`in`(statuses), overlaps)
+            .fetch()
+    }
+
+    override fun findDashboard(
+        userId: Long,
+        type: ReservationDashboardType,
+        statuses: Collection<ReservationStatus>?,
+        pageable: Pageable,
+        includeArchived: Boolean
+    ): Page<MyReservationInfoResponse> {
+        val hotWhere = BooleanBuilder(
+            when (type) {
+                ReservationDashboardType.RENTALS -> reservation.owner.id.eq(userId)
+                ReservationDashboardType.BORROWS -> reservation.renter.id.eq(userId)
+            }
+        )
+        if (!statuses.isNullOrEmpty()) hotWhere.and(reservation.status.`in`(statuses))
+
+        val hotTotal = queryFactory
+            .select(reservation.count())
+            .from(reservation)
+            .where(hotWhere)
+            .fetchOne() ?: 0L
+
+        if (!includeArchived) {
+            return PageImpl(findHotDashboard(userId, hotWhere, pageable.offsetOrZero(), pageable.limitOrNull()), pageable, hotTotal)
+        }
+
+        val archiveWhere = BooleanBuilder(
+            when (type) {
+                ReservationDashboardType.RENTALS -> reservationArchive.ownerId.eq(userId)
+                ReservationDashboardType.BORROWS -> reservationArchive.renterId.eq(userId)
+            }
+        )
+        if (!statuses.isNullOrEmpty()) archiveWhere.and(reservationArchive.status.`in`(statuses))
+
+        val archiveTotal = queryFactory
+            .select(reservationArchive.count())
+            .from(reservationArchive)
+            .where(archiveWhere)
+            .fetchOne() ?: 0L
+
+        // 최근 예약을 먼저, 이어서 보관된 예약 (보관된 예약은 모두 보관 기준일 이전에 끝난 예약)
+        val offset = pageable.offsetOrZero()
+        val limit = pageable.limitOrNull()
+        val content = mutableListOf<MyReservationInfoResponse>()
+        if (offset < hotTotal) {
+            content += findHotDashboard(userId, hotWhere, offset, limit)
+        }
+        val remaining = limit?.let { it - content.size }
+        if (remaining == null || remaining > 0) {
+            content += findArchivedDashboard(userId, archiveWhere, maxOf(0L, offset - hotTotal), remaining)
+        }
+
+        return PageImpl(content, pageable, hotTotal + archiveTotal)
+    }
+
+    override fun findByRenterId(renterId: Long, includeArchived: Boolean): List<ReservationResponse> =
+        findResponses(reservation.renter.id.eq(renterId), reservationArchive.renterId.eq(renterId), includeArchived)
+
+    override fun findByOwnerId(ownerId: Long, includeArchived: Boolean): List<ReservationResponse> =
+        findResponses(reservation.owner.id.eq(ownerId), reservationArchive.ownerId.eq(ownerId), includeArchived)
+
+    override fun findByPostId(postId: Long, includeArchived: Boolean): List<ReservationResponse> =
+        findResponses(reservation.post.id.eq(postId), reservationArchive.postId.eq(postId), includeArchived)
+
+    private fun findResponses(hotWhere: Predicate, archiveWhere: Predicate, includeArchived: Boolean): List<ReservationResponse> {
+        val hot = queryFactory
+            .select(
+                reservation.id,
+                reservation.status,
+                reservation.post.id,
+                reservation.startTime,
+                reservation.endTime,
+                reservation.amount,
+                reservation.rejectionReason,
+                reservation.owner.id,
+                reservation.renter.id
+            )
+            .from(reservation)
+            .where(hotWhere)
+            .orderBy(reservation.startTime.desc(), reservation.id.desc())
+            .fetch()
+            .map {
+                ReservationResponse(
+                    it.get(reservation.id)!!,
+                    it.get(reservation.status)!!.name,
+                    it.get(reservation.post.id)!!,
+                    it.get(reservation.startTime)!!,
+                    it.get(reservation.endTime)!!,
+                    it.get(reservation.amount)!!,
+                    it.get(reservation.rejectionReason).orEmpty(),
+                    it.get(reservation.owner.id),
+                    it.get(reservation.renter.id)
+                )
+            }
+        if (!includeArchived) return hot
+
+        val archived = queryFactory
+            .selectFrom(reservationArchive)
+            .where(archiveWhere)
+            .orderBy(reservationArchive.startTime.desc(), reservationArchive.id.desc())
+            .fetch()
+            .map {
+                ReservationResponse(
+                    it.id,
+                    it.status.name,
+                    it.postId,
+                    it.startTime,
+                    it.endTime,
+                    it.amount,
+                    it.rejectionReason.orEmpty(),
+                    it.ownerId,
+                    it.renterId
+                )
+            }
+        return hot + archived
+    }
+
+    private fun findHotDashboard(userId: Long, where: BooleanBuilder, offset: Long, limit: Long?): List<MyReservationInfoResponse> {
+        val post = QPost.post
+
+        val query = queryFactory
+            .select(
+                Projections.constructor(
+                    MyReservationInfoResponse::class.java,
+                    reservation.id,
+                    post.title,
+                    firstImageUrl(post.id),
+                    reservation.amount,
+                    reservation.startTime,
+                    reservation.endTime,
+                    reservation.status,
+                    reviewed(reservation.id, userId)
+                )
+            )
+            .from(reservation)
+            .join(reservation.post, post)
+            .where(where)
+            .orderBy(reservation.startTime.desc(), reservation.id.desc())
+            .offset(offset)
+        limit?.let { query.limit(it) }
+        return query.fetch()
+    }
+
+    // 리뷰는 보관 후에도 review 테이블에 남아 원본 예약 ID 로 조회
+    private fun findArchivedDashboard(userId: Long, where: BooleanBuilder, offset: Long, limit: Long?): List<MyReservationInfoResponse> {
+        val reviewed = reviewed(reservationArchive.id, userId)
+        val query = queryFactory
+            .select(
+                reservationArchive.id,
+                reservationArchive.postTitle,
+                firstImageUrl(reservationArchive.postId),
+                reservationArchive.amount,
+                reservationArchive.startTime,
+                reservationArchive.endTime,
+                reservationArchive.status,
+                reviewed
+            )
+            .from(reservationArchive)
+            .where(where)
+            .orderBy(reservationArchive.startTime.desc(), reservationArchive.id.desc())
+            .offset(offset)
+        limit?.let { query.limit(it) }
+
+        return query.fetch().map {
+            MyReservationInfoResponse(
+                it.get(reservationArchive.id)!!,
+                it.get(reservationArchive.postTitle) ?: "",
+                it.get(2, String::class.java),
+                it.get(reservationArchive.amount)!!,
+                it.get(reservationArchive.startTime)!!,
+                it.get(reservationArchive.endTime)!!,
+                it.get(reservationArchive.status)!!,
+                it.get(reviewed) ?: false
+            )
+        }
+    }
+
+    // 내가 이 예약에 리뷰를 작성했는지
+    private fun reviewed(reservationId: NumberPath<Long>, userId: Long) =
+        CaseBuilder()
+            .`when`(
+                JPAExpressions.selectOne()
+                    .from(QReview.review)
+                    .where(QReview.review.reservation.id.eq(reservationId), QReview.review.reviewer.id.eq(userId))
+                    .exists()
+            )
+            .then(true)
+            .otherwise(false)
+
+    // 대표 이미지: 게시물의 첫 번째(가장 먼저 저장된) 이미지
+    private fun firstImageUrl(postId: NumberPath<Long>): JPQLQuery<String> {
+        val postImage = QPostImage.postImage
+        val firstImage = QPostImage("firstImage")
+
+        return JPAExpressions
+            .select(postImage.imageUrl)
+            .from(postImage)
+            .where(
+                postImage.id.eq(
+                    JPAExpressions.select(firstImage.id.min()).from(firstImage).where(firstImage.post.id.eq(postId))
+                )
+            )
+    }
+
+    private fun Pageable.offsetOrZero(): Long = if (isPaged) offset else 0L
+
+    private fun Pageable.limitOrNull(): Long? = if (isPaged) pageSize.toLong() else null
+}
@@ -0,0 +1,88 @@
+package com.snackoverflow.toolgether.domain.reservation.service
+
+import com.snackoverflow.toolgether.domain.reservation.cache.ReservationDashboardCache
+import com.snackoverflow.toolgether.domain.reservation.calendar.ReservationCalendar
+import com.snackoverflow.toolgether.domain.reservation.entity.Reservation
+import com.snackoverflow.toolgether.domain.reservation.entity.ReservationStatus
+import com.snackoverflow.toolgether.domain.reservation.outbox.ReservationOutboxAppender
+import com.snackoverflow.toolgether.domain.reservation.repository.ReservationRepository
+import org.slf4j.LoggerFactory
+import org.springframework.data.domain.PageRequest
+import org.springframework.stereotype.Service
+import org.springframework.transaction.annotation.Transactional
+import org.springframework.transaction.support.TransactionSynchronization
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import java.time.LocalDateTime
+
+/**
+ * 대여 시작 / 종료 일괄 처리
+ * 예약마다 Quartz Job 을 등록하지 않고, 주기적으로 시간이 지난 예약을 (status, 시간) 인덱스로 찾아 한 번에 상태를 바꾼다
+ *
+ * 여러 서버가 동시에 실행해도 대상 행을 SELECT ... FOR UPDATE SKIP LOCKED 로 잡으므로 같은 예약을 두 번 처리하지 않는다
+ * 한 번 호출에 최대 batchSize 건을 한 트랜잭션으로 처리하고, 처리한 건수를 반환
+ * 보증금 반환 / 크레딧 / 알림은 outbox 에 기록만 하고 ReservationOutboxDispatcher 가 처리
+ */
+@Service
+class RentalLifecycleService(
+    private val reservationRepository: ReservationRepository,
+    private val outboxAppender: ReservationOutboxAppender,
+    private val reservationCalendar: ReservationCalendar,
+    private val availabilityService: ReservationAvailabilityService,
+    private val dashboardCache: ReservationDashboardCache
+) {
+    companion object {
+        private val log = LoggerFactory.getLogger(RentalLifecycleService::class.java)
+    }
+
+    // APPROVED -> IN_PROGRESS
+    @Transactional
+    fun startDueRentals(now: LocalDateTime, batchSize: Int): Int {
+        val due = reservationRepository.findStartDueForUpdate(ReservationStatus.APPROVED, now, PageRequest.of(0, batchSize))
+        if (due.isEmpty()) return 0
+
+        val reservationIds = due.map { it.id!! }
+        val userIds = participants(due)
+        val updated = reservationRepository.updateStatus(reservationIds, ReservationStatus.APPROVED, ReservationStatus.IN_PROGRESS)
+        outboxAppender.appendAll(reservationIds, ReservationStatus.IN_PROGRESS)
+        dashboardCache.evictAfterCommit(userIds)
+
+        log.info("대여 시작 처리 - {}건", updated)
+        return due.size
+    }
+
+    // IN_PROGRESS -> DONE
+    @Transactional
+    fun completeDueRentals(now: LocalDateTime, batchSize: Int): Int {
+        val due = reservationRepository.findEndDueForUpdate(ReservationStatus.IN_PROGRESS, now, PageRequest.of(0, batchSize))
+        if (due.isEmpty()) return 0
+
+        val reservationIds = due.map { it.id!! }
+        val postIds = due.map { it.post.id!! }.toSet()
+        val userIds = participants(due)
+
+        val updated = reservationRepository.updateStatus(reservationIds, ReservationStatus.IN_PROGRESS, ReservationStatus.DONE)
+        outboxAppender.appendAll(reservationIds, ReservationStatus.DONE)
+        dashboardCache.evictAfterCommit(userIds)
+
+        onScheduleReleasedAfterCommit(postIds)
+
+        log.info("대여 종료 처리 - {}건", updated)
+        return due.size
+    }
+
+    // 일괄 UPDATE 는 상태 변경 이벤트가 없으므로 목록 캐시를 직접 무효화
+    private fun participants(reservations: List<Reservation>): Set<Long> =
+        reservations.flatMap { listOf(it.renter.id!!, it.owner.id!!) }.toSet()
+
+    // 종료된 예약의 게시물은 커밋 이후 달력 / 예약 가능 시간을 다시 계산
+    private fun onScheduleReleasedAfterCommit(postIds: Set<Long>) {
+        TransactionSynchronizationManager.registerSynchronization(object : TransactionSynchronization {
+            override fun afterCommit() {
+                postIds.forEach {
+                    reservationCalendar.evict(it)
+                    availabilityService.evict(it)
+                }
+            }
+        })
+    }
+}
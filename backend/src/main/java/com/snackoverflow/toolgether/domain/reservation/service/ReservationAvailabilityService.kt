@@ -0,0 +1,135 @@
+package com.snackoverflow.toolgether.domain.reservation.service
+
+import com.fasterxml.jackson.core.JsonProcessingException
+import com.fasterxml.jackson.core.type.TypeReference
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.snackoverflow.toolgether.domain.post.event.PostChangedEvent
+import com.snackoverflow.toolgether.domain.postavailability.repository.PostAvailabilityRepository
+import com.snackoverflow.toolgether.domain.reservation.availability.AvailabilityCalculator
+import com.snackoverflow.toolgether.domain.reservation.availability.TimeSlot
+import com.snackoverflow.toolgether.domain.reservation.dto.AvailabilityResponse
+import com.snackoverflow.toolgether.domain.reservation.entity.ReservationStatus
+import com.snackoverflow.toolgether.domain.reservation.repository.ReservationRepository
+import org.slf4j.LoggerFactory
+import org.springframework.dao.DataAccessException
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.stereotype.Service
+import org.springframework.transaction.annotation.Transactional
+import org.springframework.transaction.event.TransactionalEventListener
+import java.time.DayOfWeek
+import java.time.Duration
+import java.time.LocalDateTime
+import java.time.temporal.TemporalAdjusters
+
+/**
+ * 게시물의 예약 가능 시간 조회
+ * 주(월요일 0시 시작) 단위로 계산해서 Redis 에 캐시하고, 조회 구간에 걸치는 주들을 이어 붙여 반환한다
+ * 캐시 키에 게시물별 세대 번호를 넣어 두고, 일정이 바뀌면 세대 번호만 올려 이전 캐시를 한 번에 무효화
+ */
+@Service
+class ReservationAvailabilityService(
+    private val reservationRepository: ReservationRepository,
+    private val postAvailabilityRepository: PostAvailabilityRepository,
+    private val redisTemplate: RedisTemplate<String, String>,
+    private val objectMapper: ObjectMapper
+) {
+    companion object {
+        private val log = LoggerFactory.getLogger(ReservationAvailabilityService::class.java)
+
+        private const val KEY_PREFIX = "reservation:availability:"
+        private const val GENERATION_KEY_PREFIX = "reservation:availability:gen:"
+        private val TTL: Duration = Duration.ofHours(1)
+        private const val MAX_WINDOW_DAYS = 62L
+
+        // 예약 가능 시간에서 빼는 예약 상태
+        private val RESERVED_STATUSES = listOf(ReservationStatus.APPROVED, ReservationStatus.IN_PROGRESS)
+        private val SLOT_LIST_TYPE = object : TypeReference<List<TimeSlot>>() {}
+    }
+
+    @Transactional(readOnly = true)
+    fun getAvailability(postId: Long, from: LocalDateTime, to: LocalDateTime): AvailabilityResponse {
+        require(from < to) { "조회 시작 시간은 종료 시간보다 빨라야 합니다." }
+        require(Duration.between(from, to).toDays() <= MAX_WINDOW_DAYS) { "최대 ${MAX_WINDOW_DAYS}일까지 조회할 수 있습니다." }
+
+        val generation = currentGeneration(postId)
+        val slots = mutableListOf<TimeSlot>()
+
+        var weekStart = from.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).atStartOfDay()
+        while (weekStart < to) {
+            val weekEnd = weekStart.plusWeeks(1)
+            weekSlots(postId, generation, weekStart, weekEnd)
+                .filter { it.endTime > from && it.startTime < to }
+                .forEach { slot -> appendMerged(slots, TimeSlot(maxOf(slot.startTime, from), minOf(slot.endTime, to))) }
+            weekStart = weekEnd
+        }
+
+        return AvailabilityResponse(postId, from, to, slots)
+    }
+
+    // 예약 승인 / 종료 / 실패, 게시물 일정 수정 시 호출
+    fun evict(postId: Long) {
+        try {
+            redisTemplate.opsForValue().increment(GENERATION_KEY_PREFIX + postId)
+        } catch (e: DataAccessException) {
+            log.warn("예약 가능 시간 캐시 무효화 실패: postId={}, {}", postId, e.message)
+        }
+    }
+
+    @TransactionalEventListener
+    fun onPostChanged(event: PostChangedEvent) {
+        evict(event.postId)
+    }
+
+    private fun weekSlots(postId: Long, generation: String, weekStart: LocalDateTime, weekEnd: LocalDateTime): List<TimeSlot> {
+        val key = "$KEY_PREFIX$postId:$generation:${weekStart.toLocalDate()}"
+
+        read(key)?.let { return it }
+
+        val available = AvailabilityCalculator.expand(postAvailabilityRepository.findAllByPostId(postId), weekStart, weekEnd)
+        val reserved = reservationRepository.findOverlapping(postId, RESERVED_STATUSES, weekStart, weekEnd)
+            .map { TimeSlot(it.startTime, it.endTime) }
+        val slots = AvailabilityCalculator.freeSlots(available, reserved, weekStart, weekEnd)
+
+        write(key, slots)
+        return slots
+    }
+
+    // 주 경계에서 끊긴 구간은 이어 붙인다
+    private fun appendMerged(slots: MutableList<TimeSlot>, slot: TimeSlot) {
+        val last = slots.lastOrNull()
+        if (last != null && last.endTime == slot.startTime) {
+            slots[slots.size - 1] = TimeSlot(last.startTime, slot.endTime)
+        } else {
+            slots.add(slot)
+        }
+    }
+
+    private fun currentGeneration(postId: Long): String {
+        return try {
+            redisTemplate.opsForValue()[GENERATION_KEY_PREFIX + postId] ?: "0"
+        } catch (e: DataAccessException) {
+            log.warn("예약 가능 시간 캐시 세대 조회 실패: postId={}, {}", postId, e.message)
+            "0"
+        }
+    }
+
+    private fun read(key: String): List<TimeSlot>? {
+        return try {
+            redisTemplate.opsForValue()[key]?.let { objectMapper.readValue(it, SLOT_LIST_TYPE) }
+        } catch (e: DataAccessException) {
+            log.warn("예약 가능 시간 캐시 조회 실패: {}", e.message)
+            null
+        } catch (e: JsonProcessingException) {
+            log.warn("예약 가능 시간 캐시 역직렬화 실패: {}", e.message)
+            null
+        }
+    }
+
+    private fun write(key: String, slots: List<TimeSlot>) {
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(slots), TTL)
+        } catch (e: DataAccessException) {
+            log.warn("예약 가능 시간 캐시 저장 실패: {}", e.message)
+        }
+    }
+}
@@ -7,26 +7,40 @@ import com.snackoverflow.toolgether.domain.deposit.entity.ReturnReason
 import com.snackoverflow.toolgether.domain.deposit.service.DepositHistoryService
 import com.snackoverflow.toolgether.domain.post.repository.PostRepository
 import com.snackoverflow.toolgether.domain.post.service.PostService
+import com.snackoverflow.toolgether.domain.reservation.cache.ReservationDashboardCache
+import com.snackoverflow.toolgether.domain.reservation.calendar.ReservationCalendar
 import com.snackoverflow.toolgether.domain.reservation.dto.PostReservationResponse
+import com.snackoverflow.toolgether.domain.reservation.dto.ReservationBatchRequest
+import com.snackoverflow.toolgether.domain.reservation.dto.ReservationDashboardType
 import com.snackoverflow.toolgether.domain.reservation.dto.ReservationRequest
 import com.snackoverflow.toolgether.domain.reservation.dto.ReservationResponse
 import com.snackoverflow.toolgether.domain.reservation.entity.FailDue
 import com.snackoverflow.toolgether.domain.reservation.entity.Reservation
+import com.snackoverflow.toolgether.domain.reservation.entity.ReservationCalendarVersion
 import com.snackoverflow.toolgether.domain.reservation.entity.ReservationStatus
+import com.snackoverflow.toolgether.domain.reservation.repository.ReservationBatchWriter
+import com.snackoverflow.toolgether.domain.reservation.repository.ReservationCalendarVersionRepository
 import com.snackoverflow.toolgether.domain.reservation.repository.ReservationRepository
+import com.snackoverflow.toolgether.domain.user.dto.response.MyReservationInfoResponse
 import com.snackoverflow.toolgether.domain.user.service.UserService
+import com.snackoverflow.toolgether.global.exception.NotFoundException
 import com.snackoverflow.toolgether.global.exception.custom.CustomException
 import com.snackoverflow.toolgether.global.exception.custom.ErrorResponse
-import jakarta.annotation.PostConstruct
 import lombok.extern.slf4j.Slf4j
 import mu.KotlinLogging
-import org.quartz.*
+import org.springframework.dao.DataIntegrityViolationException
+import org.springframework.data.domain.Page
+import org.springframework.data.domain.Pageable
+import org.springframework.orm.ObjectOptimisticLockingFailureException
+import org.springframework.retry.annotation.Backoff
+import org.springframework.retry.annotation.Retryable
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
+import org.springframework.transaction.support.TransactionSynchronization
+import org.springframework.transaction.support.TransactionSynchronizationManager
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder
 import java.net.URI
 import java.time.LocalDateTime
-import java.time.ZoneId
 import java.util.*
 import kotlin.collections.ArrayList
 import kotlin.collections.List
@@ -41,42 +55,33 @@ class ReservationService(
     private val userService: UserService,
     private val depositHistoryService: DepositHistoryService,
     private val notificationService: NotificationService,
-    private val scheduler: Scheduler, // Quartz 스케줄러
-    private val startRentalJobDetail: JobDetail, // Quartz JobDetail (시작)
-    private val completeRentalJobDetail: JobDetail // Quartz JobDetail (종료)
+    private val reservationCalendar: ReservationCalendar,
+    private val calendarVersionRepository: ReservationCalendarVersionRepository,
+    private val availabilityService: ReservationAvailabilityService,
+    private val reservationBatchWriter: ReservationBatchWriter,
+    private val dashboardCache: ReservationDashboardCache
 ) {
     private val log = KotlinLogging.logger {}
 
-    @PostConstruct
-    fun init() {
-        try {
-            if (!scheduler.isStarted) { // 이미 시작되었는지 확인, 불필요한 재시작 방지
-                scheduler.start()
-                log.info("Quartz Scheduler started.")
-            }
-        } catch (e: SchedulerException) {
-            log.error("Failed to start Quartz Scheduler", e)
-        }
+    companion object {
+        private const val MAX_BATCH_SIZE = 20
     }
 
-    // 예약 요청 (일정 충돌 방지 로직 필요)
+    // 예약 요청 (같은 게시물에 동시에 들어온 요청은 달력 버전 충돌 시 재시도 -> 재시도에서 충돌로 거절)
     @Transactional
+    @Retryable(
+        value = [ObjectOptimisticLockingFailureException::class, DataIntegrityViolationException::class],
+        maxAttempts = 3,
+        backoff = Backoff(delay = 50)
+    )
     fun requestReservation(reservationRequest: ReservationRequest): ReservationResponse {
         // 1. Post, Renter, Owner 조회
         val post = postService.findPostById(reservationRequest.postId)
         val renter = userService.findUserById(reservationRequest.renterId)
         val owner = userService.findUserById(reservationRequest.ownerId)
 
-        // 2. 일정 충돌 검증 (비관적 락 적용)
-        val conflictingReservations = reservationRepository.findConflictingReservations(
-            reservationRequest.postId,
-            reservationRequest.startTime,
-            reservationRequest.endTime
-        )
-
-        if (conflictingReservations != null) {
-            require(conflictingReservations.isEmpty()) { "해당 시간대에는 이미 예약이 존재합니다." }
-        }
+        // 2. 일정 충돌 검증 (메모리 달력에서 임시 점유 후 달력 버전으로 커밋 경합 검사)
+        holdSchedule(post.id!!, reservationRequest.startTime, reservationRequest.endTime)
 
         // 3. 예약 생성 및 저장
         val totalAmount = reservationRequest.deposit + reservationRequest.rentalFee
@@ -109,6 +114,7 @@ class ReservationService(
             reservation.owner.id!!,
             "[${reservation.id}] '${reservation.post.title}' 새로운 예약 요청이 있습니다."
         )
+        dashboardCache.evictAfterCommit(listOf(renter.id!!, owner.id!!))
 
         // 5. Response 반환
         return ReservationResponse(
@@ -124,84 +130,111 @@ class ReservationService(
         )
     }
 
-    // 예약 승인
+    /**
+     * 일괄 예약 요청 (공구 세트처럼 여러 물건을 한 번에 대여)
+     * 모든 물건의 일정 충돌을 한 번의 쿼리로 검사하고, 예약 / 보증금 내역은 JDBC 배치로 저장
+     * 하나라도 실패하면 전체가 롤백된다
+     */
     @Transactional
-    fun approveReservation(reservationId: Long) {
-        try {
-            val reservation = findReservationByIdOrThrow(reservationId)
-            reservation.approve()
+    @Retryable(
+        value = [ObjectOptimisticLockingFailureException::class, DataIntegrityViolationException::class],
+        maxAttempts = 3,
+        backoff = Backoff(delay = 50)
+    )
+    fun requestReservations(batchRequest: ReservationBatchRequest): List<ReservationResponse> {
+        val items = batchRequest.items
+        require(items.isNotEmpty()) { "예약할 물건이 없습니다." }
+        require(items.size <= MAX_BATCH_SIZE) { "한 번에 최대 ${MAX_BATCH_SIZE}개까지 예약할 수 있습니다." }
+        items.forEach { require(it.startTime < it.endTime) { "대여 시작 시간은 종료 시간보다 빨라야 합니다." } }
+
+        // 1. 게시물 / 대여자 조회
+        val renter = userService.findUserById(batchRequest.renterId)
+        val postIds = items.map { it.postId }.distinct().sorted()
+        val postsById = postRepository.findAllById(postIds).associateBy { it.id!! }
+        postIds.forEach { postId ->
+            if (!postsById.containsKey(postId)) {
+                throw NotFoundException("404-1", "게시물을 찾을 수 없습니다: $postId")
+            }
+        }
 
-            // 알림 전송 (대여자에게 알림)
-            notificationService.createNotification(
-                reservation.renter.id,
-                "[${reservation.id}] '${reservation.post.title}' 예약이 승인되었습니다."
+        // 2. 요청 안에서 같은 게시물의 기간이 겹치는지 검사
+        items.groupBy { it.postId }.values.forEach { samePost ->
+            val sorted = samePost.sortedBy { it.startTime }
+            sorted.zipWithNext().forEach { (prev, next) ->
+                require(prev.endTime <= next.startTime) { "같은 물건의 예약 기간이 서로 겹칩니다." }
+            }
+        }
+
+        // 3. 달력 버전을 먼저 읽고, 이미 저장된 예약과의 충돌을 한 번에 검사
+        val versionsById = calendarVersionRepository.findAllById(postIds).associateBy { it.postId }
+        val missingVersions = postIds.filterNot { versionsById.containsKey(it) }.map { ReservationCalendarVersion(it) }
+        val calendarVersions = versionsById.values + calendarVersionRepository.saveAllAndFlush(missingVersions)
+
+        val conflicts = reservationRepository.findConflicts(items, ReservationStatus.ACTIVE)
+        require(conflicts.isEmpty()) {
+            "해당 시간대에는 이미 예약이 존재합니다: ${conflicts.map { it.post.id }.distinct().joinToString()}"
+        }
+
+        // 4. 게시물별 달력 버전 증가 (동시에 들어온 다른 예약과 경합하면 재시도)
+        calendarVersions.sortedBy { it.postId }.forEach { it.touch() }
+        calendarVersionRepository.saveAllAndFlush(calendarVersions)
+
+        // 5. 예약 + 보증금 내역 배치 저장
+        val rows = items.map {
+            ReservationBatchWriter.NewReservation(
+                postId = it.postId,
+                renterId = renter.id!!,
+                ownerId = postsById.getValue(it.postId).user!!.id!!,
+                startTime = it.startTime,
+                endTime = it.endTime,
+                amount = it.deposit + it.rentalFee,
+                deposit = it.deposit.toInt()
             )
+        }
+        val reservationIds = reservationBatchWriter.insert(rows)
 
-            // Quartz Job 등록 (Start Rental)
-            val startJobDataMap = JobDataMap()
-            startJobDataMap.put("reservationId", reservationId) // 확인: reservationId가 null이 아닌지
-
-            // JobDetail에 JobDataMap 설정 (여기 수정)
-            val startJob = startRentalJobDetail.jobBuilder
-                .usingJobData(startJobDataMap) // usingJobData 사용
-                .withIdentity("startRentalJob-$reservationId", "startRentalGroup")
-                .build()
-
-            val startTrigger: Trigger = TriggerBuilder.newTrigger()
-                .forJob(startJob) // 수정: startJob 사용
-                .withIdentity("startRentalTrigger-$reservationId", "startRentalGroup") // 그룹 지정
-                .startAt(
-                    Date.from(reservation.startTime.atZone(ZoneId.systemDefault()).toInstant())
-                ) // startTime에 실행
-                .withSchedule(SimpleScheduleBuilder.simpleSchedule().withMisfireHandlingInstructionFireNow())
-                .build()
-
-            // Quartz Job 등록 (Complete Rental)
-            val completeJobDataMap = JobDataMap()
-            completeJobDataMap.put("reservationId", reservationId) //확인
-
-            // JobDetail에 JobDataMap 설정
-            val completeJob = completeRentalJobDetail.jobBuilder
-                .usingJobData(completeJobDataMap) // usingJobData 사용
-                .withIdentity("completeRentalJob-$reservationId", "completeRentalGroup") // 더 구체적인 이름, 그룹
-                .build()
-
-            val completeTrigger: Trigger = TriggerBuilder.newTrigger()
-                .forJob(completeJob) // 수정: completeJob 사용
-                .withIdentity("completeRentalTrigger-$reservationId", "completeRentalGroup") // 그룹 지정
-                .startAt(Date.from(reservation.endTime.atZone(ZoneId.systemDefault()).toInstant())) // endTime에 실행
-                .withSchedule(SimpleScheduleBuilder.simpleSchedule().withMisfireHandlingInstructionFireNow())
-                .build()
-
-            scheduler.scheduleJob(startJob, mutableSetOf(startTrigger), true)
-            scheduler.scheduleJob(completeJob, mutableSetOf(completeTrigger), true)
-
-        } catch (e: SchedulerException) {
-            // SchedulerException을 RuntimeException으로 래핑하여 던짐
-            throw RuntimeException("Failed to schedule start/complete rental job", e)
+        // 6. 소유자별로 알림 한 건씩
+        rows.indices.groupBy { rows[it].ownerId }.forEach { (ownerId, indices) ->
+            val titles = indices.map { "'${postsById.getValue(rows[it].postId).title}'" }.distinct()
+            notificationService.createNotification(
+                ownerId,
+                "[${indices.joinToString(",") { reservationIds[it].toString() }}] ${titles.joinToString(", ")} 새로운 예약 요청이 ${indices.size}건 있습니다."
+            )
+        }
+        dashboardCache.evictAfterCommit(rows.map { it.ownerId } + renter.id!!)
+
+        return rows.mapIndexed { index, row ->
+            ReservationResponse(
+                reservationIds[index],
+                ReservationStatus.REQUESTED.name,
+                row.postId,
+                row.startTime,
+                row.endTime,
+                row.amount,
+                "null", // 단건 예약 응답과 동일하게 거절 사유가 없으면 "null"
+                row.ownerId,
+                row.renterId
+            )
         }
     }
 
-    // 예약 거절
+    // 예약 승인 (대여 시작 / 종료는 RentalLifecycleService 가 주기적으로 일괄 처리)
+    // 상태 변경 이후의 보증금 / 크레딧 / 알림 처리는 outbox 에 기록되어 ReservationOutboxDispatcher 가 처리
+    @Transactional
+    fun approveReservation(reservationId: Long) {
+        val reservation = findReservationByIdOrThrow(reservationId)
+        reservation.approve()
+        reservationRepository.save(reservation) // 상태 변경 이벤트 발행 -> outbox 기록
+        onScheduleApprovedAfterCommit(reservation.post.id!!)
+    }
+
+    // 예약 거절 (보증금 반환 + 대여자 알림은 outbox 로 처리)
     @Transactional
     fun rejectReservation(reservationId: Long, reason: String?) {
         val reservation = findReservationByIdOrThrow(reservationId)
         reservation.reject(reason)
-
-        // 보증금 상태 변경 및 반환 사유 업데이트
-        val depositHistory: DepositHistory = depositHistoryService.findDepositHistoryByReservationId(reservationId)
-        depositHistoryService.updateDepositHistory(depositHistory.id!!, DepositStatus.RETURNED, ReturnReason.REJECTED)
-
-        // 대여자 크레딧 업데이트
-        userService.updateUserCredit(reservation.renter.id!!, depositHistory.amount)
-
-        val title = reservation.post.title
-
-        // 알림 전송 (대여자에게 알림)
-        notificationService.createNotification(
-            reservation.renter.id,
-            "[${reservation.id}] '${reservation.post.title}' 예약이 거절되었습니다."
-        )
+        reservationRepository.save(reservation)
+        onScheduleReleasedAfterCommit(reservation.post.id!!)
     }
 
     // 대여 시작 (IN_PROGRESS 상태)
@@ -209,98 +242,91 @@ class ReservationService(
     fun startRental(reservationId: Long) {
         val reservation = findReservationByIdOrThrow(reservationId)
         reservation.startRental()
-
-        // 알림 전송
-        notificationService.createNotification(
-            reservation.renter.id,
-            "[${reservation.id}] '${reservation.post.title}' 대여가 시작되었습니다."
-        )
-        notificationService.createNotification(
-            reservation.owner.id,
-            "[${reservation.id}] '${reservation.post.title}' 대여가 시작되었습니다."
-        )
+        reservationRepository.save(reservation)
     }
 
-    // 대여 완료 (DONE 상태)
+    // 대여 완료 (DONE 상태, 보증금 반환 + 알림은 outbox 로 처리)
     @Transactional
     fun completeRental(reservationId: Long) {
         val reservation = findReservationByIdOrThrow(reservationId)
         reservation.completeRental()
-
-        // 보증금 상태 변경 및 반환 사유 업데이트
-        val depositHistory: DepositHistory = depositHistoryService.findDepositHistoryByReservationId(reservationId)
-        depositHistoryService.updateDepositHistory(
-            depositHistory.id!!,
-            DepositStatus.RETURNED,
-            ReturnReason.NORMAL_COMPLETION
-        )
-
-        // 대여자 크레딧 업데이트
-        userService.updateUserCredit(reservation.renter.id!!, depositHistory.amount)
-
-        // 알림 전송
-        notificationService.createNotification(
-            reservation.renter.id,
-            "[${reservation.id}] '${reservation.post.title}' 대여가 완료되었습니다."
-        )
-        notificationService.createNotification(
-            reservation.owner.id,
-            "[${reservation.id}] '${reservation.post.title}' 대여가 완료되었습니다."
-        )
+        reservationRepository.save(reservation)
+        onScheduleReleasedAfterCommit(reservation.post.id!!)
     }
 
-    // 대여자 예약 취소
+    // 대여자 예약 취소 (보증금 반환 + 소유자 알림은 outbox 로 처리)
     @Transactional
     fun cancelReservation(reservationId: Long) {
         val reservation = findReservationByIdOrThrow(reservationId)
         reservation.canceled()
-
-        // 보증금 상태 변경 및 반환 사유 업데이트
-        val depositHistory: DepositHistory = depositHistoryService.findDepositHistoryByReservationId(reservationId)
-        depositHistoryService.updateDepositHistory(depositHistory.id!!, DepositStatus.RETURNED, ReturnReason.REJECTED)
-
-        // 대여자 크레딧 업데이트
-        userService.updateUserCredit(reservation.renter.id!!, depositHistory.amount)
-
-        // 소유자에게 알림 전송
-        notificationService.createNotification(
-            reservation.owner.id,
-            "[${reservation.id}] '${reservation.post.title}' 예약이 취소되었습니다."
-        )
+        reservationRepository.save(reservation)
+        onScheduleReleasedAfterCommit(reservation.post.id!!)
     }
 
-    // ~에 의한 대여 실패 -> 소유자의 경우 대여자에게, 대여자일 경우 소유자에게 보증금 환급
+    // ~에 의한 대여 실패 -> 소유자의 경우 대여자에게, 대여자일 경우 소유자에게 보증금 환급 (outbox 로 처리)
     @Transactional
     fun failDueTo(reservationId: Long, reason: String, failDue: FailDue) {
         val reservation = findReservationByIdOrThrow(reservationId)
-
-        // 보증금 상태 변경 및 반환 사유 업데이트 -> 사유를 받아와서 작성
-        val depositHistory: DepositHistory = depositHistoryService.findDepositHistoryByReservationId(reservationId)
-        depositHistoryService.updateDepositHistory(
-            depositHistory.id!!,
-            DepositStatus.RETURNED,
-            ReturnReason.valueOf(reason)
-        )
+        val returnReason = ReturnReason.valueOf(reason)
 
         if (failDue == FailDue.OWNER_ISSUE) {
-            reservation.failDueToOwnerIssue()
-            // 대여자 크레딧 업데이트
-            userService.updateUserCredit(reservation.renter.id!!, depositHistory.amount)
+            reservation.failDueToOwnerIssue(returnReason)
         } else if (failDue == FailDue.RENTER_ISSUE) {
-            reservation.failDueToRenterIssue()
-            // 소유자 크레딧 업데이트
-            userService.updateUserCredit(reservation.owner.id!!, depositHistory.amount)
+            reservation.failDueToRenterIssue(returnReason)
         }
+        reservationRepository.save(reservation)
 
-        // 알림 전송
-        notificationService.createNotification(
-            reservation.renter.id,
-            "[${reservation.id}] '${reservation.post.title}' 대여가 실패했습니다."
-        )
-        notificationService.createNotification(
-            reservation.owner.id,
-            "[${reservation.id}] '${reservation.post.title}' 대여가 실패했습니다."
-        )
+        onScheduleReleasedAfterCommit(reservation.post.id!!)
+    }
+
+    /**
+     * 게시물의 기간을 점유
+     * 1. 메모리 달력에서 O(log n) 으로 충돌 검사 후 임시 점유 (DB 락 없음)
+     * 2. 게시물의 달력 버전을 올려서 flush -> 다른 서버에서 동시에 커밋된 예약이 있으면 낙관적 락 예외로 재시도
+     * 트랜잭션이 끝나면 커밋 여부에 따라 임시 점유를 확정하거나 해제한다
+     */
+    private fun holdSchedule(postId: Long, startTime: LocalDateTime, endTime: LocalDateTime) {
+        val calendarVersion = calendarVersionRepository.findById(postId)
+            .orElseGet { calendarVersionRepository.saveAndFlush(ReservationCalendarVersion(postId)) }
+
+        val hold = reservationCalendar.tryHold(postId, calendarVersion.version!!, startTime, endTime) {
+            reservationRepository.findPeriodsByPostId(postId, ReservationStatus.ACTIVE)
+                .filter { it.startTime < it.endTime }
+                .map { ReservationCalendar.TimeRange(it.startTime, it.endTime) }
+        }
+        requireNotNull(hold) { "해당 시간대에는 이미 예약이 존재합니다." }
+
+        TransactionSynchronizationManager.registerSynchronization(object : TransactionSynchronization {
+            override fun afterCompletion(status: Int) {
+                if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                    reservationCalendar.confirm(hold, calendarVersion.version!!)
+                } else {
+                    reservationCalendar.release(hold)
+                }
+            }
+        })
+
+        calendarVersion.touch()
+        calendarVersionRepository.saveAndFlush(calendarVersion)
+    }
+
+    // 점유가 풀린 게시물의 달력 / 예약 가능 시간은 커밋 이후 다시 계산
+    private fun onScheduleReleasedAfterCommit(postId: Long) {
+        TransactionSynchronizationManager.registerSynchronization(object : TransactionSynchronization {
+            override fun afterCommit() {
+                reservationCalendar.evict(postId)
+                availabilityService.evict(postId)
+            }
+        })
+    }
+
+    // 승인된 예약은 예약 가능 시간에서 빠지므로 커밋 이후 다시 계산
+    private fun onScheduleApprovedAfterCommit(postId: Long) {
+        TransactionSynchronizationManager.registerSynchronization(object : TransactionSynchronization {
+            override fun afterCommit() {
+                availabilityService.evict(postId)
+            }
+        })
     }
 
     // 예약 ID로 예약 조회
@@ -338,29 +364,26 @@ class ReservationService(
 
     @Transactional(readOnly = true)
     fun getReservationsByPostId(postId: Long): List<ReservationResponse> {
-        val reservations = reservationRepository.findByPostId(postId)
-        val responses: MutableList<ReservationResponse> = ArrayList()
-        val includedStatuses = listOf(
-            ReservationStatus.APPROVED,
-            ReservationStatus.IN_PROGRESS
+        val reservations = reservationRepository.findByPostIdAndStatusIn(
+            postId,
+            listOf(ReservationStatus.APPROVED, ReservationStatus.IN_PROGRESS)
         )
-        reservations.stream()
-            .filter { reservation: Reservation -> includedStatuses.contains(reservation.status) }
-            .forEach { reservation: Reservation ->
-                responses.add(
-                    ReservationResponse(
-                        reservation.id!!,
-                        reservation.status.name,
-                        reservation.post.id!!,
-                        reservation.startTime,
-                        reservation.endTime,
-                        reservation.amount,
-                        reservation.rejectionReason.toString(),
-                        reservation.owner.id,
-                        reservation.renter.id
-                    )
+        val responses: MutableList<ReservationResponse> = ArrayList()
+        reservations.forEach { reservation: Reservation ->
+            responses.add(
+                ReservationResponse(
+                    reservation.id!!,
+                    reservation.status.name,
+                    reservation.post.id!!,
+                    reservation.startTime,
+                    reservation.endTime,
+                    reservation.amount,
+                    reservation.rejectionReason.toString(),
+                    reservation.owner.id,
+                    reservation.renter.id
                 )
-            }
+            )
+        }
         return responses
     }
 
@@ -377,16 +400,31 @@ class ReservationService(
         )
     }
 
-    // 렌탈 예약 정보 DB에서 조회
+    // 렌탈 예약 정보 DB에서 조회 (보관된 예약은 includeArchived 일 때만 함께 조회)
     @Transactional(readOnly = true)
-    fun getRentalReservations(userId: Long): List<Reservation> {
-        return reservationRepository.findByOwnerId(userId)
+    fun getRentalReservations(userId: Long, includeArchived: Boolean = false): List<ReservationResponse> {
+        return reservationRepository.findByOwnerId(userId, includeArchived)
     }
 
-    // 대여 예약 정보 DB에서 조회
+    // 대여 예약 정보 DB에서 조회 (보관된 예약은 includeArchived 일 때만 함께 조회)
     @Transactional(readOnly = true)
-    fun getBorrowReservations(userId: Long): List<Reservation> {
-        return reservationRepository.findByRenterId(userId)
+    fun getBorrowReservations(userId: Long, includeArchived: Boolean = false): List<ReservationResponse> {
+        return reservationRepository.findByRenterId(userId, includeArchived)
+    }
+
+    // 마이페이지 예약 목록 (한 번의 쿼리로 조회한 프로젝션을 사용자별로 캐시)
+    // 보관된 예약(ReservationArchiver)은 includeArchived 일 때만 함께 조회
+    @Transactional(readOnly = true)
+    fun getDashboard(
+        userId: Long,
+        type: ReservationDashboardType,
+        statuses: Collection<ReservationStatus>?,
+        pageable: Pageable,
+        includeArchived: Boolean = false
+    ): Page<MyReservationInfoResponse> {
+        return dashboardCache.getOrLoad(userId, type, statuses, pageable, includeArchived) {
+            reservationRepository.findDashboard(userId, type, statuses, pageable, includeArchived)
+        }
     }
 
     @Transactional(readOnly = true)
@@ -10,7 +10,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener
 import java.time.LocalDateTime
 
 @Entity
-@EntityListeners(AuditingEntityListener::class)
+@EntityListeners(AuditingEntityListener::class, ReviewCacheEvictListener::class)
 data class Review(
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -24,8 +24,9 @@ data class Review(
     @JoinColumn(name = "reviewee_id", nullable = false)
     val reviewee: User, // 리뷰 대상자
 
+    // 예약이 reservation_archive 로 옮겨져도 리뷰는 남으므로 FK 를 두지 않음 (reservation_id 는 원본 예약 ID)
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "reservation_id", nullable = false)
+    @JoinColumn(name = "reservation_id", nullable = false, foreignKey = ForeignKey(ConstraintMode.NO_CONSTRAINT))
     val reservation: Reservation,
 
     @Column(nullable = false)
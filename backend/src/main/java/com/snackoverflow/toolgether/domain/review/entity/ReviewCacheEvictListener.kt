@@ -0,0 +1,16 @@
+package com.snackoverflow.toolgether.domain.review.entity
+
+import com.snackoverflow.toolgether.domain.reservation.cache.ReservationDashboardCache
+import jakarta.persistence.PostPersist
+import org.springframework.stereotype.Component
+
+// 리뷰가 저장되면 작성자의 마이페이지 예약 목록(리뷰 작성 여부) 캐시를 커밋 이후 무효화
+@Component
+class ReviewCacheEvictListener(
+    private val dashboardCache: ReservationDashboardCache
+) {
+    @PostPersist
+    fun onCreated(review: Review) {
+        review.reviewer.id?.let { dashboardCache.evictAfterCommit(listOf(it)) }
+    }
+}
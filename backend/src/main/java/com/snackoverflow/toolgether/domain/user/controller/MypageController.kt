@@ -1,31 +1,30 @@
 package com.snackoverflow.toolgether.domain.user.controller
 
-import com.snackoverflow.toolgether.domain.postimage.service.PostImageService
-import com.snackoverflow.toolgether.domain.reservation.entity.Reservation
+import com.snackoverflow.toolgether.domain.reservation.dto.ReservationDashboardType
+import com.snackoverflow.toolgether.domain.reservation.entity.ReservationStatus
 import com.snackoverflow.toolgether.domain.reservation.service.ReservationService
-import com.snackoverflow.toolgether.domain.review.service.ReviewService
 import com.snackoverflow.toolgether.domain.user.dto.request.PatchMyInfoRequest
 import com.snackoverflow.toolgether.domain.user.dto.response.MeInfoResponse
 import com.snackoverflow.toolgether.domain.user.dto.response.MyReservationInfoResponse
+import com.snackoverflow.toolgether.domain.user.service.UserCreditService
 import com.snackoverflow.toolgether.domain.user.service.UserService
 import com.snackoverflow.toolgether.global.dto.RsData
 import com.snackoverflow.toolgether.global.filter.CustomUserDetails
 import com.snackoverflow.toolgether.global.filter.Login
 import lombok.RequiredArgsConstructor
-import org.springframework.transaction.annotation.Transactional
+import org.springframework.data.domain.Page
+import org.springframework.data.domain.Pageable
 import org.springframework.validation.annotation.Validated
 import org.springframework.web.bind.annotation.*
 import org.springframework.web.multipart.MultipartFile
-import java.util.stream.Collectors
 
 @RestController
 @RequestMapping("/api/v1/mypage")
 @RequiredArgsConstructor
 class MypageController(
     private val userService: UserService,
-    private val reviewService: ReviewService,
+    private val userCreditService: UserCreditService,
     private val reservationService: ReservationService,
-    private val postImageService: PostImageService,
 ) {
     //내 정보 조회
     @GetMapping("/me")
@@ -42,41 +41,28 @@ class MypageController(
         )
     }
 
-    //예약 조회
-    @Transactional(readOnly = true)
+    //크레딧 잔액 조회 (캐시된 값, 변경 후 최대 수십 초 늦을 수 있음)
+    @GetMapping("/credit")
+    fun getMyCredit(
+        @Login customUserDetails: CustomUserDetails
+    ): RsData<Int> {
+        return RsData(
+            "200-1",
+            "크레딧 조회 성공",
+            userCreditService.getBalance(customUserDetails.userId)
+        )
+    }
+
+    //예약 조회 (게시물 / 대표 이미지 / 리뷰 여부를 한 번의 쿼리로 조회)
     @GetMapping("/reservations")
     fun getMyReservations(
         @Login customUserDetails: CustomUserDetails
     ): RsData<Map<String, List<MyReservationInfoResponse>>> {
         val userId = customUserDetails.userId
 
-        val rentals = reservationService.getRentalReservations(userId)
-        val borrows = reservationService.getBorrowReservations(userId)
-
-        val rentalResponses = rentals.map { reservation ->
-                val imageUrl: String? = postImageService.getPostImagesByPostId(reservation.post.id!!)
-                    .takeIf { it.isNotEmpty() }
-                    ?.get(0)
-                    ?.imageUrl
-                val isReviewed = reviewService.findByUserIdAndReservationId(userId, reservation.id!!).isPresent
-                MyReservationInfoResponse.from(reservation, imageUrl, isReviewed)
-            }
-
-        val borrowResponses = borrows.stream()
-            .map { reservation: Reservation ->
-                var imageUrl: String? = null
-                val images = postImageService.getPostImagesByPostId(reservation.post.id!!) //PostImageService 호출
-                if (images != null && images.isNotEmpty()) {
-                    imageUrl = images.get(0).imageUrl
-                }
-                val isReviewed = reviewService.findByUserIdAndReservationId(userId, reservation.id!!).isPresent
-                MyReservationInfoResponse.from(reservation, imageUrl, isReviewed)
-            }
-            .collect(Collectors.toList())
-
         val data: MutableMap<String, List<MyReservationInfoResponse>> = HashMap()
-        data["rentals"] = rentalResponses
-        data["borrows"] = borrowResponses
+        data["rentals"] = reservationService.getDashboard(userId, ReservationDashboardType.RENTALS, null, Pageable.unpaged()).content
+        data["borrows"] = reservationService.getDashboard(userId, ReservationDashboardType.BORROWS, null, Pageable.unpaged()).content
 
         return RsData(
             "200-1",
@@ -85,6 +71,22 @@ class MypageController(
         )
     }
 
+    //예약 조회 (페이지 / 상태 필터)
+    @GetMapping("/reservations/page")
+    fun getMyReservationPage(
+        @Login customUserDetails: CustomUserDetails,
+        @RequestParam type: ReservationDashboardType,
+        @RequestParam(required = false) status: List<ReservationStatus>?,
+        @RequestParam(defaultValue = "false") includeArchived: Boolean,
+        pageable: Pageable
+    ): RsData<Page<MyReservationInfoResponse>> {
+        return RsData(
+            "200-1",
+            "마이페이지 예약 정보 조회 성공",
+            reservationService.getDashboard(customUserDetails.userId, type, status, pageable, includeArchived)
+        )
+    }
+
     //프로필 이미지 업로드
     @PostMapping("/profile")
     fun postProfileimage(
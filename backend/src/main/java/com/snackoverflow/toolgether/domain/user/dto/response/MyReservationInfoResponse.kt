@@ -1,6 +1,7 @@
 package com.snackoverflow.toolgether.domain.user.dto.response;
 
 import com.snackoverflow.toolgether.domain.reservation.entity.Reservation;
+import com.snackoverflow.toolgether.domain.reservation.entity.ReservationStatus;
 import kotlin.jvm.JvmStatic;
 
 import java.time.LocalDateTime;
@@ -15,6 +16,18 @@ data class MyReservationInfoResponse(
     val status: String,
     val isReviewed: Boolean
 ) {
+    // QueryDSL 프로젝션용
+    constructor(
+        id: Long,
+        title: String,
+        image: String?,
+        amount: Double,
+        startTime: LocalDateTime,
+        endTime: LocalDateTime,
+        status: ReservationStatus,
+        isReviewed: Boolean
+    ) : this(id, title, image, amount, startTime, endTime, status.toString(), isReviewed)
+
     companion object {
         @JvmStatic
         fun from(reservation: Reservation, imageUrl: String?, isReviewed: Boolean): MyReservationInfoResponse {
@@ -0,0 +1,37 @@
+package com.snackoverflow.toolgether.domain.user.entity
+
+import jakarta.persistence.*
+import java.time.LocalDateTime
+
+/**
+ * 크레딧 변동 내역 (추가만 하고 수정 / 삭제하지 않음)
+ * users.credit 는 이 내역의 합계와 같도록 같은 트랜잭션에서 원자적 UPDATE 로 함께 갱신한다
+ * reference 가 있으면 유일 -> 같은 건(예: 예약 보증금 반환)이 두 번 반영되지 않음
+ */
+@Entity
+@Table(
+    name = "credit_ledger",
+    indexes = [Index(name = "idx_credit_ledger_user_id", columnList = "userId, id")],
+    uniqueConstraints = [UniqueConstraint(name = "uk_credit_ledger_reference", columnNames = ["reference"])]
+)
+class CreditLedger(
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    var id: Long? = null,
+
+    @Column(nullable = false)
+    var userId: Long,
+
+    @Column(nullable = false)
+    var amount: Int, // 음수면 차감
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    var reason: CreditReason,
+
+    @Column(length = 100)
+    var reference: String? = null,
+
+    @Column(nullable = false)
+    var createdAt: LocalDateTime = LocalDateTime.now()
+)
@@ -0,0 +1,7 @@
+package com.snackoverflow.toolgether.domain.user.entity
+
+enum class CreditReason {
+    DEPOSIT_RETURN, // 보증금 반환 (대여자)
+    DEPOSIT_COMPENSATION, // 대여자 문제로 보증금을 소유자가 받음
+    ADJUSTMENT // 그 외 직접 조정
+}
@@ -39,6 +39,7 @@ class User(
 
     var score: Int = 30, // 유저 평가 정보: 기본값 30점
 
+    @Column(updatable = false) // 변경은 CreditLedgerWriter 의 원자적 UPDATE 로만 (엔티티 저장 시 읽어 둔 값으로 덮어쓰지 않음)
     var credit: Int = 0, // 보증금 환불 필드
 
     var deletedAt: LocalDateTime? = null, // 탈퇴 일자, 탈퇴하면 null이 아님
@@ -83,10 +84,6 @@ class User(
     }
 
     // 업데이트 로직
-    fun updateCredit(credit: Int) {
-        this.credit += credit
-    }
-
     fun updatePhoneNumber(phoneNumber: String) {
         this.phoneNumber = phoneNumber
     }
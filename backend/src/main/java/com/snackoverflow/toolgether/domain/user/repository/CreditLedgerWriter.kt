@@ -0,0 +1,60 @@
+package com.snackoverflow.toolgether.domain.user.repository
+
+import com.snackoverflow.toolgether.domain.user.entity.CreditReason
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.stereotype.Repository
+import java.sql.Timestamp
+import java.sql.Types
+import java.time.LocalDateTime
+
+/**
+ * 크레딧 반영 (JDBC)
+ * 1. 변동 내역을 배치 INSERT
+ * 2. 사용자별로 합산해서 UPDATE users SET credit = credit + ? -> 엔티티를 읽지 않으므로 동시에 반영되어도 누락되지 않음
+ * 호출하는 쪽의 트랜잭션 커넥션을 그대로 사용한다
+ */
+@Repository
+class CreditLedgerWriter(
+    private val jdbcTemplate: JdbcTemplate
+) {
+    companion object {
+        private const val INSERT_LEDGER =
+            "INSERT INTO credit_ledger (user_id, amount, reason, reference, created_at) VALUES (?, ?, ?, ?, ?)"
+
+        private const val ADD_CREDIT = "UPDATE users SET credit = credit + ? WHERE id = ?"
+    }
+
+    data class CreditEntry(
+        val userId: Long,
+        val amount: Int,
+        val reason: CreditReason,
+        val reference: String? = null
+    )
+
+    // 크레딧이 반영되지 않은 (존재하지 않는) 사용자 ID 를 반환
+    fun apply(entries: List<CreditEntry>): List<Long> {
+        if (entries.isEmpty()) return emptyList()
+
+        val now = Timestamp.valueOf(LocalDateTime.now())
+        jdbcTemplate.batchUpdate(INSERT_LEDGER, entries, entries.size) { ps, entry ->
+            ps.setLong(1, entry.userId)
+            ps.setInt(2, entry.amount)
+            ps.setString(3, entry.reason.name)
+            if (entry.reference != null) ps.setString(4, entry.reference) else ps.setNull(4, Types.VARCHAR)
+            ps.setTimestamp(5, now)
+        }
+
+        // 사용자 ID 순서로 갱신해서 여러 트랜잭션이 같은 사용자들을 갱신할 때 교착 상태를 피한다
+        val totals = entries.groupBy { it.userId }
+            .mapValues { (_, userEntries) -> userEntries.sumOf { it.amount } }
+            .toSortedMap()
+            .toList()
+
+        val updated = jdbcTemplate.batchUpdate(ADD_CREDIT, totals, totals.size) { ps, (userId, amount) ->
+            ps.setInt(1, amount)
+            ps.setLong(2, userId)
+        }
+
+        return totals.filterIndexed { index, _ -> updated[0][index] == 0 }.map { it.first }
+    }
+}
@@ -3,6 +3,7 @@ package com.snackoverflow.toolgether.domain.user.repository;
 import com.snackoverflow.toolgether.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -29,4 +30,7 @@ interface UserRepository : JpaRepository<User, Long> {
     fun findAllProfileImageUrl(): List<String>
 
     fun findByphoneNumber(phoneNumber: String): User?
-}
\ No newline at end of file
+
+    @Query("SELECT u.credit FROM User u WHERE u.id = :id")
+    fun findCreditById(@Param("id") id: Long): Int?
+}
@@ -0,0 +1,53 @@
+package com.snackoverflow.toolgether.domain.user.service
+
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
+import com.snackoverflow.toolgether.domain.user.repository.CreditLedgerWriter
+import com.snackoverflow.toolgether.domain.user.repository.CreditLedgerWriter.CreditEntry
+import com.snackoverflow.toolgether.domain.user.repository.UserRepository
+import com.snackoverflow.toolgether.global.exception.custom.UserNotFoundException
+import org.springframework.stereotype.Service
+import org.springframework.transaction.annotation.Transactional
+import org.springframework.transaction.support.TransactionSynchronization
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import java.time.Duration
+
+/**
+ * 사용자 크레딧
+ * 변경: 변동 내역(credit_ledger) 추가 + 원자적 UPDATE (엔티티 조회 / dirty checking 없음)
+ * 조회: 짧게 캐시한 잔액 (변경이 커밋되면 해당 사용자 캐시를 비움)
+ */
+@Service
+class UserCreditService(
+    private val creditLedgerWriter: CreditLedgerWriter,
+    private val userRepository: UserRepository
+) {
+    companion object {
+        private const val BALANCE_CACHE_MAXIMUM_SIZE = 10_000L
+        private val BALANCE_CACHE_TTL: Duration = Duration.ofSeconds(30) // 다른 서버에서 변경된 경우를 위해 짧게 유지
+    }
+
+    private val balanceCache: Cache<Long, Int> = Caffeine.newBuilder()
+        .maximumSize(BALANCE_CACHE_MAXIMUM_SIZE)
+        .expireAfterWrite(BALANCE_CACHE_TTL)
+        .build()
+
+    @Transactional
+    fun apply(entries: List<CreditEntry>) {
+        val missingUserIds = creditLedgerWriter.apply(entries)
+        if (missingUserIds.isNotEmpty()) throw UserNotFoundException()
+
+        val userIds = entries.map { it.userId }.toSet()
+        TransactionSynchronizationManager.registerSynchronization(object : TransactionSynchronization {
+            override fun afterCommit() {
+                balanceCache.invalidateAll(userIds)
+            }
+        })
+    }
+
+    fun getBalance(userId: Long): Int {
+        return balanceCache.get(userId) {
+            userRepository.findCreditById(it) ?: throw UserNotFoundException()
+        }
+    }
+}
@@ -2,7 +2,9 @@ package com.snackoverflow.toolgether.domain.user.service;
 
 import com.snackoverflow.toolgether.domain.user.dto.request.PatchMyInfoRequest;
 import com.snackoverflow.toolgether.domain.user.dto.response.MeInfoResponse;
+import com.snackoverflow.toolgether.domain.user.entity.CreditReason;
 import com.snackoverflow.toolgether.domain.user.entity.User;
+import com.snackoverflow.toolgether.domain.user.repository.CreditLedgerWriter.CreditEntry;
 import com.snackoverflow.toolgether.domain.user.repository.UserRepository;
 import com.snackoverflow.toolgether.global.exception.custom.UserNotFoundException;
 import com.snackoverflow.toolgether.global.util.s3.S3Service;
@@ -20,6 +22,7 @@ import java.util.List;
 @Transactional(readOnly = true)
 class UserService(
     private val userRepository: UserRepository,
+    private val userCreditService: UserCreditService,
     private val s3Service: S3Service
 ) {
 
@@ -40,10 +43,10 @@ class UserService(
         return userRepository.findById(userId).orElseThrow { UserNotFoundException() }
     }
 
+    // 엔티티를 읽어 더하지 않고 변동 내역 + 원자적 UPDATE 로 반영 (동시에 반영되어도 누락되지 않음)
     @Transactional
     fun updateUserCredit(userId: Long, credit: Int) {
-        val user = userRepository.findById(userId).orElseThrow { UserNotFoundException() }
-        user.updateCredit(credit)
+        userCreditService.apply(listOf(CreditEntry(userId, credit, CreditReason.ADJUSTMENT)))
     }
 
     @Transactional(readOnly = true)
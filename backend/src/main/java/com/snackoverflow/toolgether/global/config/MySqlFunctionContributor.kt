@@ -0,0 +1,23 @@
+package com.snackoverflow.toolgether.global.config
+
+import org.hibernate.boot.model.FunctionContributions
+import org.hibernate.boot.model.FunctionContributor
+import org.hibernate.type.StandardBasicTypes
+
+/**
+ * JPQL / QueryDSL 에서 사용할 MySQL 전용 함수 등록
+ * META-INF/services 를 통해 Hibernate 가 부팅 시 읽어간다
+ */
+class MySqlFunctionContributor : FunctionContributor {
+    override fun contributeFunctions(functionContributions: FunctionContributions) {
+        val doubleType = functionContributions.typeConfiguration.basicTypeRegistry
+            .resolve(StandardBasicTypes.DOUBLE)
+
+        // FULLTEXT 인덱스 검색 (boolean mode), 관련도 점수를 반환
+        functionContributions.functionRegistry.registerPattern(
+            "match_against",
+            "match(?1, ?2) against (?3 in boolean mode)",
+            doubleType
+        )
+    }
+}
@@ -2,13 +2,23 @@ package com.snackoverflow.toolgether.global.config;
 
 import com.snackoverflow.toolgether.domain.job.CompleteRentalJob
 import com.snackoverflow.toolgether.domain.job.StartRentalJob
+import io.micrometer.core.instrument.MeterRegistry
 import org.quartz.*
 import org.springframework.beans.factory.annotation.Qualifier
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.boot.autoconfigure.quartz.SchedulerFactoryBeanCustomizer
 import org.springframework.context.annotation.Bean
 import org.springframework.context.annotation.Configuration
 
+// 기본은 메모리 저장소, cluster 프로필에서는 JDBC 저장소 + 클러스터 모드 (application-cluster.yml)
 @Configuration
 class QuartzConfig {
+	// 모든 트리거의 실행 지연 / misfire 를 메트릭으로 기록
+	@Bean
+	fun quartzTriggerLagCustomizer(meterRegistry: MeterRegistry): SchedulerFactoryBeanCustomizer {
+		return SchedulerFactoryBeanCustomizer { it.setGlobalTriggerListeners(QuartzTriggerLagListener(meterRegistry)) }
+	}
+
 	@Bean
 	fun startRentalJobDetail(): JobDetail {  //JobDetail 생성
 		return JobBuilder.newJob(StartRentalJob::class.java) // 어떤 Job을 실행시킬 것인가?
@@ -26,28 +36,35 @@ class QuartzConfig {
 	}
 
 
-	// startTime에 Trigger
+	// 시작 시간이 지난 예약을 주기적으로 일괄 처리
 	@Bean
-	fun startRentalTrigger(@Qualifier("startRentalJobDetail") startRentalJobDetail: JobDetail?): Trigger { // Trigger 생성
-		//SimpleScheduleBuilder는 특정 시간에 한번만 실행하는 Trigger
+	fun startRentalTrigger(
+		@Qualifier("startRentalJobDetail") startRentalJobDetail: JobDetail?,
+		@Value("\${custom.reservation.lifecycle.interval-seconds:30}") intervalSeconds: Int
+	): Trigger { // Trigger 생성
 		return TriggerBuilder.newTrigger()
 			.forJob(startRentalJobDetail) // 어떤 JobDetail에 Trigger를 걸 것인가?
 			.withIdentity("startRentalTrigger") // 트리거 이름
-			// .startAt()  // 언제 실행할 것인가? -> 서비스에서 처리
 			.withSchedule(
-				SimpleScheduleBuilder.simpleSchedule().withMisfireHandlingInstructionFireNow()
-			) // 놓친 스케줄은 즉시 실행
+				SimpleScheduleBuilder.repeatSecondlyForever(intervalSeconds)
+					.withMisfireHandlingInstructionNextWithRemainingCount()
+			) // 놓친 실행은 건너뛰고 다음 주기에 한 번에 처리
 			.build()
 	}
 
-	// endTime에 Trigger
+	// 종료 시간이 지난 대여를 주기적으로 일괄 처리
 	@Bean
-	fun completeRentalTrigger(@Qualifier("completeRentalJobDetail") completeRentalJobDetail: JobDetail?): Trigger { // Trigger
+	fun completeRentalTrigger(
+		@Qualifier("completeRentalJobDetail") completeRentalJobDetail: JobDetail?,
+		@Value("\${custom.reservation.lifecycle.interval-seconds:30}") intervalSeconds: Int
+	): Trigger { // Trigger
 		return TriggerBuilder.newTrigger()
 			.forJob(completeRentalJobDetail) // 어떤 JobDetail에 Trigger를 걸 것인가?
 			.withIdentity("completeRentalTrigger") // 트리거 이름
-			//.startAt() // 서비스에서 처리
-			.withSchedule(SimpleScheduleBuilder.simpleSchedule().withMisfireHandlingInstructionFireNow())
+			.withSchedule(
+				SimpleScheduleBuilder.repeatSecondlyForever(intervalSeconds)
+					.withMisfireHandlingInstructionNextWithRemainingCount()
+			)
 			.build()
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,30 @@
+package com.snackoverflow.toolgether.global.config
+
+import io.micrometer.core.instrument.MeterRegistry
+import org.quartz.JobExecutionContext
+import org.quartz.Trigger
+import org.quartz.listeners.TriggerListenerSupport
+import java.time.Duration
+
+/**
+ * 트리거 지연 측정
+ * - quartz.trigger.lag: 예정 시각부터 실제 실행까지 걸린 시간 (스레드 부족 / 클러스터 획득 지연)
+ * - quartz.trigger.misfire: misfireThreshold 를 넘겨 놓친 실행 횟수
+ */
+class QuartzTriggerLagListener(
+    private val meterRegistry: MeterRegistry
+) : TriggerListenerSupport() {
+
+    override fun getName(): String = "triggerLagListener"
+
+    override fun triggerFired(trigger: Trigger, context: JobExecutionContext) {
+        val scheduled = context.scheduledFireTime ?: return
+        val lag = Duration.ofMillis((context.fireTime.time - scheduled.time).coerceAtLeast(0))
+
+        meterRegistry.timer("quartz.trigger.lag", "trigger", trigger.key.name).record(lag)
+    }
+
+    override fun triggerMisfired(trigger: Trigger) {
+        meterRegistry.counter("quartz.trigger.misfire", "trigger", trigger.key.name).increment()
+    }
+}
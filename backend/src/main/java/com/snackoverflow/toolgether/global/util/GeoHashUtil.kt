@@ -0,0 +1,152 @@
+package com.snackoverflow.toolgether.global.util
+
+import kotlin.math.abs
+import kotlin.math.cos
+import kotlin.math.max
+import kotlin.math.min
+
+object GeoHashUtil {
+    private const val BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz"
+    private const val EARTH_RADIUS_KM = 6371.0
+    private const val KM_PER_DEGREE = 111.32
+
+    const val MAX_PRECISION = 12 // 게시물에 저장되는 geohash 길이 (약 3.7cm x 1.9cm)
+
+    // 위도 / 경도를 geohash 문자열로 변환
+    @JvmStatic
+    @JvmOverloads
+    fun encode(latitude: Double, longitude: Double, precision: Int = MAX_PRECISION): String {
+        var minLat = -90.0
+        var maxLat = 90.0
+        var minLon = -180.0
+        var maxLon = 180.0
+
+        val hash = StringBuilder(precision)
+        var isLon = true
+        var bit = 0
+        var ch = 0
+
+        while (hash.length < precision) {
+            if (isLon) {
+                val mid = (minLon + maxLon) / 2
+                if (longitude >= mid) {
+                    ch = (ch shl 1) or 1
+                    minLon = mid
+                } else {
+                    ch = ch shl 1
+                    maxLon = mid
+                }
+            } else {
+                val mid = (minLat + maxLat) / 2
+                if (latitude >= mid) {
+                    ch = (ch shl 1) or 1
+                    minLat = mid
+                } else {
+                    ch = ch shl 1
+                    maxLat = mid
+                }
+            }
+            isLon = !isLon
+
+            if (++bit == 5) {
+                hash.append(BASE32[ch])
+                bit = 0
+                ch = 0
+            }
+        }
+        return hash.toString()
+    }
+
+    // geohash 셀의 중심 좌표 [위도, 경도]
+    @JvmStatic
+    fun center(geoHash: String): DoubleArray {
+        var minLat = -90.0
+        var maxLat = 90.0
+        var minLon = -180.0
+        var maxLon = 180.0
+        var isLon = true
+
+        for (c in geoHash) {
+            val index = BASE32.indexOf(c)
+            require(index >= 0) { "잘못된 geohash 입니다: $geoHash" }
+
+            for (shift in 4 downTo 0) {
+                val bit = (index shr shift) and 1
+                if (isLon) {
+                    val mid = (minLon + maxLon) / 2
+                    if (bit == 1) minLon = mid else maxLon = mid
+                } else {
+                    val mid = (minLat + maxLat) / 2
+                    if (bit == 1) minLat = mid else maxLat = mid
+                }
+                isLon = !isLon
+            }
+        }
+        return doubleArrayOf((minLat + maxLat) / 2, (minLon + maxLon) / 2)
+    }
+
+    // precision 길이의 셀 하나가 가지는 위도 / 경도 폭 (degree)
+    private fun cellHeightDegrees(precision: Int): Double = 180.0 / (1L shl (precision * 5 / 2))
+
+    private fun cellWidthDegrees(precision: Int): Double = 360.0 / (1L shl ((precision * 5 + 1) / 2))
+
+    /**
+     * 반경 검색에 사용할 후보 셀 목록
+     * 반경보다 큰 셀 중 가장 정밀한 길이를 골라 중심 셀과 인접 8개 셀을 반환
+     * 반경이 너무 커서 적당한 셀이 없으면 빈 목록 -> 바운딩 박스만으로 후보를 좁힌다
+     */
+    @JvmStatic
+    fun coveringCells(latitude: Double, longitude: Double, distanceKm: Double): Set<String> {
+        val precision = precisionFor(latitude, distanceKm)
+        if (precision == 0) return emptySet()
+
+        val dLat = cellHeightDegrees(precision)
+        val dLon = cellWidthDegrees(precision)
+
+        val cells = LinkedHashSet<String>()
+        for (latStep in -1..1) {
+            for (lonStep in -1..1) {
+                val lat = latitude + latStep * dLat
+                if (lat < -90.0 || lat > 90.0) continue
+                cells.add(encode(lat, normalizeLongitude(longitude + lonStep * dLon), precision))
+            }
+        }
+        return cells
+    }
+
+    // 셀의 가로 / 세로 길이(km)가 모두 반경 이상인 최대 precision, 없으면 0
+    @JvmStatic
+    fun precisionFor(latitude: Double, distanceKm: Double): Int {
+        val lonScale = max(cos(Math.toRadians(latitude)), 0.01)
+        for (precision in MAX_PRECISION downTo 1) {
+            val heightKm = cellHeightDegrees(precision) * KM_PER_DEGREE
+            val widthKm = cellWidthDegrees(precision) * KM_PER_DEGREE * lonScale
+            if (min(heightKm, widthKm) >= distanceKm) return precision
+        }
+        return 0
+    }
+
+    /**
+     * 중심점에서 반경 distanceKm 를 모두 포함하는 위도 / 경도 범위
+     * [minLat, maxLat, minLon, maxLon] 순서로 반환
+     */
+    @JvmStatic
+    fun boundingBox(latitude: Double, longitude: Double, distanceKm: Double): DoubleArray {
+        val dLat = Math.toDegrees(distanceKm / EARTH_RADIUS_KM)
+        val cosLat = cos(Math.toRadians(latitude))
+        val dLon = if (abs(cosLat) < 1e-9) 180.0 else min(180.0, dLat / cosLat)
+
+        return doubleArrayOf(
+            max(-90.0, latitude - dLat),
+            min(90.0, latitude + dLat),
+            max(-180.0, longitude - dLon),
+            min(180.0, longitude + dLon)
+        )
+    }
+
+    private fun normalizeLongitude(longitude: Double): Double = when {
+        longitude > 180.0 -> longitude - 360.0
+        longitude < -180.0 -> longitude + 360.0
+        else -> longitude
+    }
+}
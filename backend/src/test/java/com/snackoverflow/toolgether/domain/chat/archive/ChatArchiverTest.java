@@ -0,0 +1,92 @@
+package com.snackoverflow.toolgether.domain.chat.archive;
+
+import com.snackoverflow.toolgether.domain.chat.dto.ChatMessage;
+import com.snackoverflow.toolgether.domain.chat.entity.ChatMessageArchive;
+import com.snackoverflow.toolgether.domain.chat.repository.ChatMessageArchiveRepository;
+import com.snackoverflow.toolgether.domain.chat.service.ChatService;
+import com.snackoverflow.toolgether.global.constants.AppConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("local")
+class ChatArchiverTest {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private ChatMessageArchiveRepository chatMessageArchiveRepository;
+
+    private final String sender = "archiveUser1";
+    private final String receiver = "archiveUser2";
+    private final String channelName = sender + ":" + receiver;
+    private final String chatKey = AppConstants.PERSONAL_CHAT_PREFIX + channelName;
+    private final LocalDateTime base = LocalDateTime.of(2025, 4, 13, 12, 0);
+
+    @BeforeEach
+    void setup() {
+        redisTemplate.delete(chatKey);
+        chatMessageArchiveRepository.deleteAll(archived());
+    }
+
+    @Test
+    @DisplayName("Redis 에 스크립트가 없어도 (재시작 / SCRIPT FLUSH 직후) 메시지를 저장하고 최근 구간 밖의 메시지를 보관한다")
+    void trimAfterScriptFlush() throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            chatService.saveMessage(channelName, message(i));
+        }
+
+        // 재시작 / 페일오버 직후처럼 Redis 의 스크립트 캐시를 비움 -> EVALSHA 가 NOSCRIPT 로 실패
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.scriptingCommands().scriptFlush();
+            return null;
+        });
+
+        chatService.saveMessage(channelName, message(100));
+
+        // 가장 오래된 메시지 하나만 밀려나고 최근 100개가 남음
+        assertEquals(100L, redisTemplate.opsForZSet().size(chatKey));
+        assertTrue(redisTemplate.opsForZSet().range(chatKey, 0, -1).stream()
+                .noneMatch(member -> member.contains("\"message-0\"")));
+
+        // 밀려난 메시지는 대기 리스트를 거쳐 chat_message 테이블에 저장됨
+        List<ChatMessageArchive> rows = archived();
+        for (int i = 0; i < 50 && rows.isEmpty(); i++) {
+            Thread.sleep(100);
+            rows = archived();
+        }
+        assertEquals(List.of("message-0"), rows.stream().map(ChatMessageArchive::getContent).toList());
+    }
+
+    private ChatMessage message(int index) {
+        return new ChatMessage(
+                sender, receiver,
+                "message-" + index, base.plusSeconds(index).format(FORMATTER),
+                "SENDER", "RECEIVER",
+                false, false);
+    }
+
+    private List<ChatMessageArchive> archived() {
+        return chatMessageArchiveRepository.findBefore(channelName, Long.MAX_VALUE, Long.MAX_VALUE, Pageable.unpaged());
+    }
+}
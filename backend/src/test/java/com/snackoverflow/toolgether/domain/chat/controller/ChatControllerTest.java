@@ -1,7 +1,11 @@
 package com.snackoverflow.toolgether.domain.chat.controller;
 
+import com.snackoverflow.toolgether.domain.chat.dto.ChatHistoryPage;
 import com.snackoverflow.toolgether.domain.chat.dto.ChatMessage;
+import com.snackoverflow.toolgether.domain.chat.entity.ChatMessageArchive;
+import com.snackoverflow.toolgether.domain.chat.repository.ChatMessageArchiveRepository;
 import com.snackoverflow.toolgether.domain.chat.service.ChatService;
+import com.snackoverflow.toolgether.global.constants.AppConstants;
 import com.snackoverflow.toolgether.global.filter.CustomUserDetails;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -9,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -17,6 +22,14 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -35,16 +48,21 @@ class ChatControllerTest {
     @Autowired
     private ChatService chatService;
 
+    @Autowired
+    private ChatMessageArchiveRepository chatMessageArchiveRepository;
+
     private final String testUserId1 = "testUser123";
     private final String testUserId2 = "testUser456";
     private final String CHAT_EVENT_PREFIX = "chat:event:";
     private final String channelName = testUserId1 + ":" + testUserId2;
     private final String redisKey = CHAT_EVENT_PREFIX + testUserId1 + ":" + testUserId2;
+    private final String chatKey = AppConstants.PERSONAL_CHAT_PREFIX + channelName; // 메시지가 저장되는 Sorted Set
 
     @BeforeEach
     void setup() {
         // Redis 채널 데이터를 초기화하여 테스트 환경을 격리
         redisTemplate.delete(redisKey);
+        redisTemplate.delete(chatKey);
 
         // 메시지 생성
         ChatMessage message1 = new ChatMessage(
@@ -99,4 +117,89 @@ class ChatControllerTest {
                 .andExpect(jsonPath("$.msg").value("채팅 내역 불러오기 성공"))
                 .andExpect(jsonPath("$.data").isArray());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("채팅방 목록 조회 - 마지막 메시지 기준")
+    void testGetInbox() throws Exception {
+        mockMvc.perform(get("/api/chat/inbox")
+                        .param("userId", testUserId1)
+                        .header("X-Test-Auth", "test@example.com")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultCode").value("200-1"))
+                .andExpect(jsonPath("$.data").isArray())
+                .andExpect(jsonPath("$.data[0].channelName").value(channelName))
+                .andExpect(jsonPath("$.data[0].partnerId").value(testUserId2))
+                .andExpect(jsonPath("$.data[0].lastMessage").value("안녕!"));
+    }
+
+    @Test
+    @DisplayName("채팅 내역 페이지 조회 - 커서로 이전 메시지 조회")
+    void testGetChatHistoryPage() throws Exception {
+        mockMvc.perform(get("/api/chat/history/page")
+                        .param("channelName", channelName)
+                        .param("userId", testUserId2)
+                        .param("size", "1")
+                        .header("X-Test-Auth", "test@example.com")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.messages[0].content").value("안녕!"))
+                .andExpect(jsonPath("$.data.hasMore").value(true))
+                .andExpect(jsonPath("$.data.nextCursor").isNotEmpty());
+    }
+
+    @Test
+    @DisplayName("채팅방 나가기 - messageId 없이 저장된 메시지도 중복 없이 삭제 표시")
+    void testDeleteLegacyMessages() {
+        // setup 의 메시지는 messageId 없이 저장됨 (도입 전 형식)
+        chatService.deleteChannelMessages(channelName, testUserId1);
+
+        assertEquals(2L, redisTemplate.opsForZSet().zCard(chatKey));
+        assertTrue(redisTemplate.opsForZSet().range(chatKey, 0, -1).stream()
+                .noneMatch(member -> member.contains("messageId")));
+    }
+
+    @Test
+    @DisplayName("채팅 내역 페이지 조회 - Redis 구간을 다 읽으면 보관된 메시지로 이어서 조회")
+    void testGetChatHistoryPageAcrossArchive() {
+        // Redis 메시지(2025-04-13)보다 오래된 보관 메시지 3개
+        chatMessageArchiveRepository.deleteAll(
+                chatMessageArchiveRepository.findBefore(channelName, Long.MAX_VALUE, Long.MAX_VALUE, Pageable.unpaged()));
+        long archivedBase = LocalDateTime.of(2025, 4, 12, 12, 0).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        for (int i = 1; i <= 3; i++) {
+            chatMessageArchiveRepository.save(new ChatMessageArchive(
+                    null, channelName, archivedBase + i * 1000L,
+                    testUserId1, testUserId2, "archived-" + i,
+                    "USER1NAME", "USER2NAME",
+                    false, false, null,
+                    "test-digest-" + i, LocalDateTime.now()));
+        }
+
+        // 1. Redis 구간: "점수:건너뛸 개수" 커서
+        ChatHistoryPage first = chatService.getChatHistoryPage(channelName, testUserId2, null, 1);
+        assertEquals(List.of("안녕!"), contents(first));
+        assertTrue(first.getHasMore());
+        assertFalse(first.getNextCursor().startsWith("archive:"));
+
+        // 2. Redis 의 마지막 메시지를 읽으면 보관 구간 커서로 넘어감
+        ChatHistoryPage second = chatService.getChatHistoryPage(channelName, testUserId2, first.getNextCursor(), 1);
+        assertEquals(List.of("Hello!"), contents(second));
+        assertTrue(second.getHasMore());
+        assertTrue(second.getNextCursor().startsWith("archive:"));
+
+        // 3. 보관 구간: "archive:ts:id" 커서로 오래된 순서를 이어서 조회
+        ChatHistoryPage third = chatService.getChatHistoryPage(channelName, testUserId2, second.getNextCursor(), 2);
+        assertEquals(List.of("archived-2", "archived-3"), contents(third));
+        assertTrue(third.getHasMore());
+        assertTrue(third.getNextCursor().startsWith("archive:"));
+
+        ChatHistoryPage last = chatService.getChatHistoryPage(channelName, testUserId2, third.getNextCursor(), 2);
+        assertEquals(List.of("archived-1"), contents(last));
+        assertFalse(last.getHasMore());
+        assertNull(last.getNextCursor());
+    }
+
+    private List<String> contents(ChatHistoryPage page) {
+        return page.getMessages().stream().map(ChatMessage::getContent).toList();
+    }
+}
@@ -0,0 +1,223 @@
+package com.snackoverflow.toolgether.domain.chat.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.snackoverflow.toolgether.domain.chat.dto.ChatMessage;
+import com.snackoverflow.toolgether.domain.chat.redis.RedisPubSubEventPublisher.ChatEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(properties = {
+        "custom.chat.transport=stream",
+        "custom.chat.stream.key=" + RedisStreamChatTransportTest.STREAM_KEY,
+        "custom.chat.stream.node-id=" + RedisStreamChatTransportTest.NODE_ID,
+        "custom.chat.stream.replay-max-events=" + RedisStreamChatTransportTest.REPLAY_MAX_EVENTS,
+        "custom.chat.stream.orphan-group-idle-ms=0"
+})
+@ActiveProfiles("local")
+class RedisStreamChatTransportTest {
+
+    static final String STREAM_KEY = "chat:stream:test";
+    static final String NODE_ID = "test-node";
+    static final int REPLAY_MAX_EVENTS = 1000;
+    private static final String GROUP = "chat-node:" + NODE_ID;
+    private static final long POLL_TIMEOUT_MS = 2000;
+
+    @Autowired
+    private RedisStreamChatTransport transport;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private RedisPubSubEventSubscriber subscriber;
+
+    private final String channel = "chat:event:testUser123:testUser456";
+
+    @BeforeEach
+    void setup() throws InterruptedException {
+        // 애플리케이션 시작 시 붙은 구독을 멈추고, 진행 중이던 XREADGROUP 이 끝날 때까지 기다린 뒤 스트림을 비움
+        transport.stop();
+        Thread.sleep(POLL_TIMEOUT_MS + 500);
+        redisTemplate.delete(STREAM_KEY);
+        clearInvocations(subscriber);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transport.stop();
+        redisTemplate.delete(STREAM_KEY);
+    }
+
+    @Test
+    @DisplayName("스트림으로 받은 채팅 이벤트는 전달한 뒤 ACK 된다")
+    void deliverAndAcknowledge() throws Exception {
+        transport.start();
+
+        transport.publish(channel, event("testUser123", "testUser456", "Hello!"));
+
+        verify(subscriber, timeout(5000)).deliverChatEvent(eq(channel), anyString(), anyString());
+        awaitPending(0);
+    }
+
+    @Test
+    @DisplayName("읽고 ACK 하지 못한 항목은 다시 시작할 때 먼저 처리한다")
+    void recoverPendingOnStart() throws Exception {
+        // 이전 실행에서 읽기만 하고 죽은 상황: 같은 소비자로 XREADGROUP 후 ACK 하지 않음
+        redisTemplate.opsForStream().createGroup(STREAM_KEY, ReadOffset.latest(), GROUP);
+        transport.publish(channel, event("testUser123", "testUser456", "처리 전에 종료"));
+
+        List<MapRecord<String, Object, Object>> read = redisTemplate.opsForStream().read(
+                Consumer.from(GROUP, NODE_ID),
+                StreamReadOptions.empty().count(10),
+                StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed())
+        );
+        assertEquals(1, read.size());
+        assertEquals(1, redisTemplate.opsForStream().pending(STREAM_KEY, GROUP).getTotalPendingMessages());
+        verify(subscriber, never()).deliverChatEvent(anyString(), anyString(), anyString());
+
+        transport.start();
+
+        verify(subscriber).deliverChatEvent(eq(channel), anyString(), eq(read.get(0).getId().getValue()));
+        awaitPending(0);
+    }
+
+    @Test
+    @DisplayName("재연결하면 lastEventId 이후 자신의 메시지만 순서대로 다시 받는다")
+    void replayAfterLastEventId() throws Exception {
+        transport.start();
+
+        // 재연결 전에 이미 받은 메시지
+        for (int i = 0; i < 5; i++) {
+            transport.publish(channel, event("testUser123", "testUser456", "old " + i));
+        }
+        String lastEventId = redisTemplate.opsForStream()
+                .reverseRange(STREAM_KEY, Range.unbounded(), Limit.limit().count(1))
+                .get(0).getId().getValue();
+
+        // 끊긴 동안 쌓인 메시지, 4개 중 1개는 다른 사용자끼리의 메시지
+        int expected = 0;
+        for (int i = 0; i < 800; i++) {
+            if (i % 4 == 0) {
+                transport.publish("chat:event:other1:other2", event("other1", "other2", "missed " + i));
+            } else {
+                transport.publish(channel, event("testUser456", "testUser123", "missed " + i));
+                expected++;
+            }
+        }
+
+        WebSocketSession session = Mockito.mock(WebSocketSession.class);
+        transport.replay(session, "testUser123", lastEventId);
+
+        ArgumentCaptor<TextMessage> sent = ArgumentCaptor.forClass(TextMessage.class);
+        verify(session, times(expected)).sendMessage(sent.capture());
+        assertTrue(sent.getAllValues().get(0).getPayload().contains("missed 1"));
+        assertTrue(sent.getAllValues().get(expected - 1).getPayload().contains("missed 799"));
+    }
+
+    @Test
+    @DisplayName("재전송은 최근 replay-max-events 개 이벤트까지만 확인한다")
+    void replayIsCapped() throws Exception {
+        transport.start();
+
+        transport.publish(channel, event("testUser123", "testUser456", "old"));
+        String lastEventId = redisTemplate.opsForStream()
+                .reverseRange(STREAM_KEY, Range.unbounded(), Limit.limit().count(1))
+                .get(0).getId().getValue();
+
+        for (int i = 0; i < REPLAY_MAX_EVENTS + 200; i++) {
+            transport.publish(channel, event("testUser456", "testUser123", "missed " + i));
+        }
+
+        WebSocketSession session = Mockito.mock(WebSocketSession.class);
+        transport.replay(session, "testUser123", lastEventId);
+
+        // 가장 최근 REPLAY_MAX_EVENTS 개만 오래된 순서로 전송
+        ArgumentCaptor<TextMessage> sent = ArgumentCaptor.forClass(TextMessage.class);
+        verify(session, times(REPLAY_MAX_EVENTS)).sendMessage(sent.capture());
+        assertTrue(sent.getAllValues().get(0).getPayload().contains("missed 200"));
+        assertTrue(sent.getAllValues().get(REPLAY_MAX_EVENTS - 1).getPayload().contains("missed " + (REPLAY_MAX_EVENTS + 199)));
+    }
+
+    @Test
+    @DisplayName("스트림 ID 형식이 아닌 lastEventId 로는 재전송하지 않는다")
+    void replayRejectsInvalidLastEventId() throws Exception {
+        transport.start();
+        transport.publish(channel, event("testUser456", "testUser123", "missed"));
+
+        WebSocketSession session = Mockito.mock(WebSocketSession.class);
+        transport.replay(session, "testUser123", "abc");
+        transport.replay(session, "testUser123", "-");
+        transport.replay(session, "testUser123", "1-2-3");
+
+        verify(session, never()).sendMessage(any());
+    }
+
+    @Test
+    @DisplayName("읽는 소비자가 없는 다른 서버의 그룹은 삭제하고 자신의 그룹은 남긴다")
+    void removeOrphanGroups() throws Exception {
+        transport.start();
+        transport.publish(channel, event("testUser123", "testUser456", "Hello!"));
+        redisTemplate.opsForStream().createGroup(STREAM_KEY, ReadOffset.latest(), "chat-node:old-pod");
+        redisTemplate.opsForStream().createGroup(STREAM_KEY, ReadOffset.latest(), "other-app");
+
+        transport.removeOrphanGroups();
+
+        List<String> groups = redisTemplate.opsForStream().groups(STREAM_KEY).stream()
+                .map(StreamInfo.XInfoGroup::groupName)
+                .toList();
+        assertTrue(groups.contains(GROUP));
+        assertTrue(groups.contains("other-app")); // 채팅 서버 그룹이 아니면 건드리지 않음
+        assertFalse(groups.contains("chat-node:old-pod"));
+    }
+
+    private ChatEvent event(String sender, String receiver, String content) throws Exception {
+        ChatMessage message = new ChatMessage(
+                sender, receiver,
+                content, "2025-04-13 12:00:00",
+                sender + "NAME", receiver + "NAME",
+                false, false);
+        return new ChatEvent("MESSAGE", channel, objectMapper.writeValueAsString(message), System.currentTimeMillis());
+    }
+
+    private void awaitPending(long expected) throws InterruptedException {
+        long pending = -1;
+        for (int i = 0; i < 50; i++) {
+            pending = redisTemplate.opsForStream().pending(STREAM_KEY, GROUP).getTotalPendingMessages();
+            if (pending == expected) return;
+            Thread.sleep(100);
+        }
+        assertEquals(expected, pending);
+    }
+}
@@ -0,0 +1,56 @@
+package com.snackoverflow.toolgether.global.util
+
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import kotlin.math.acos
+import kotlin.math.cos
+import kotlin.math.sin
+import kotlin.random.Random
+
+class GeoHashUtilTest {
+
+    private fun haversine(lat1: Double, lon1: Double, lat2: Double, lon2: Double): Double {
+        val value = cos(Math.toRadians(lat1)) * cos(Math.toRadians(lat2)) * cos(Math.toRadians(lon2) - Math.toRadians(lon1)) +
+                sin(Math.toRadians(lat1)) * sin(Math.toRadians(lat2))
+        return 6371 * acos(value.coerceIn(-1.0, 1.0))
+    }
+
+    @Test
+    @DisplayName("geohash 인코딩 테스트")
+    fun encode() {
+        assertEquals("u4pruydqqvj", GeoHashUtil.encode(57.64911, 10.40744, 11))
+        assertEquals("wydm9", GeoHashUtil.encode(37.5665, 126.9780, 5))
+        assertEquals(GeoHashUtil.MAX_PRECISION, GeoHashUtil.encode(37.5665, 126.9780).length)
+    }
+
+    @Test
+    @DisplayName("반경 내의 모든 좌표는 후보 셀과 바운딩 박스 안에 포함된다")
+    fun coveringCellsContainRadius() {
+        val random = Random(42)
+        val centerLat = 37.4979
+        val centerLon = 127.0276
+
+        listOf(0.5, 1.0, 3.0, 5.0, 10.0).forEach { distance ->
+            val cells = GeoHashUtil.coveringCells(centerLat, centerLon, distance)
+            val (minLat, maxLat, minLon, maxLon) = GeoHashUtil.boundingBox(centerLat, centerLon, distance)
+            assertFalse(cells.isEmpty())
+
+            repeat(5_000) {
+                val lat = centerLat + (random.nextDouble() - 0.5) * 0.4
+                val lon = centerLon + (random.nextDouble() - 0.5) * 0.4
+                if (haversine(centerLat, centerLon, lat, lon) <= distance) {
+                    val hash = GeoHashUtil.encode(lat, lon)
+                    assertTrue(cells.any { hash.startsWith(it) }, "반경 ${distance}km 좌표가 후보 셀 밖에 있음: $lat, $lon")
+                    assertTrue(lat in minLat..maxLat && lon in minLon..maxLon, "반경 ${distance}km 좌표가 바운딩 박스 밖에 있음: $lat, $lon")
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("반경이 너무 크면 셀 필터를 사용하지 않는다")
+    fun noCellsForHugeRadius() {
+        assertTrue(GeoHashUtil.coveringCells(37.5, 127.0, 10_000.0).isEmpty())
+    }
+}
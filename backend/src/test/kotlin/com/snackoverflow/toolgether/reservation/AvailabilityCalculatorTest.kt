@@ -0,0 +1,75 @@
+package com.snackoverflow.toolgether.reservation
+
+import com.snackoverflow.toolgether.domain.post.entity.Post
+import com.snackoverflow.toolgether.domain.postavailability.entity.PostAvailability
+import com.snackoverflow.toolgether.domain.reservation.availability.AvailabilityCalculator
+import com.snackoverflow.toolgether.domain.reservation.availability.TimeSlot
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import java.time.LocalDateTime
+
+class AvailabilityCalculatorTest {
+
+    private val post = Post()
+
+    private fun at(day: Int, hour: Int): LocalDateTime = LocalDateTime.of(2025, 3, day, hour, 0)
+
+    private fun oneOff(start: LocalDateTime, end: LocalDateTime) =
+        PostAvailability(post = post, date = start, startTime = start, endTime = end, isRecurring = false)
+
+    private fun weekly(dayCode: Int, start: LocalDateTime, end: LocalDateTime) =
+        PostAvailability(post = post, recurrence_days = dayCode, startTime = start, endTime = end, isRecurring = true)
+
+    private fun free(rules: List<PostAvailability>, reserved: List<TimeSlot>, from: LocalDateTime, to: LocalDateTime) =
+        AvailabilityCalculator.freeSlots(AvailabilityCalculator.expand(rules, from, to), reserved, from, to)
+
+    @Test
+    @DisplayName("거래 가능 시간에서 예약된 시간을 뺀 구간을 반환한다")
+    fun subtractReservations() {
+        val result = free(
+            listOf(oneOff(at(3, 10), at(3, 18))),
+            listOf(TimeSlot(at(3, 12), at(3, 14))),
+            at(1, 0), at(31, 0)
+        )
+
+        assertEquals(listOf(TimeSlot(at(3, 10), at(3, 12)), TimeSlot(at(3, 14), at(3, 18))), result)
+    }
+
+    @Test
+    @DisplayName("매주 반복 일정은 조회 구간 안의 해당 요일마다 펼쳐진다")
+    fun expandWeeklyRule() {
+        // 2025-03-03 은 월요일
+        val result = free(
+            listOf(weekly(1, at(3, 9), at(3, 12))),
+            emptyList(),
+            at(1, 0), at(17, 0)
+        )
+
+        assertEquals(listOf(TimeSlot(at(3, 9), at(3, 12)), TimeSlot(at(10, 9), at(10, 12))), result)
+    }
+
+    @Test
+    @DisplayName("겹치거나 맞닿은 거래 가능 시간은 하나로 합치고 조회 구간으로 자른다")
+    fun mergeAndClip() {
+        val result = free(
+            listOf(oneOff(at(3, 9), at(3, 12)), oneOff(at(3, 11), at(3, 15)), oneOff(at(3, 15), at(3, 18))),
+            listOf(TimeSlot(at(3, 16), at(3, 20))),
+            at(3, 10), at(4, 0)
+        )
+
+        assertEquals(listOf(TimeSlot(at(3, 10), at(3, 16))), result)
+    }
+
+    @Test
+    @DisplayName("예약이 거래 가능 시간을 모두 덮으면 빈 목록을 반환한다")
+    fun fullyReserved() {
+        val result = free(
+            listOf(oneOff(at(3, 9), at(3, 12))),
+            listOf(TimeSlot(at(3, 8), at(3, 13))),
+            at(1, 0), at(31, 0)
+        )
+
+        assertEquals(emptyList<TimeSlot>(), result)
+    }
+}
@@ -0,0 +1,124 @@
+package com.snackoverflow.toolgether.reservation
+
+import com.snackoverflow.toolgether.domain.post.entity.Post
+import com.snackoverflow.toolgether.domain.post.entity.enums.Category
+import com.snackoverflow.toolgether.domain.post.entity.enums.PriceType
+import com.snackoverflow.toolgether.domain.post.repository.PostRepository
+import com.snackoverflow.toolgether.domain.reservation.archive.ReservationArchiver
+import com.snackoverflow.toolgether.domain.reservation.dto.ReservationDashboardType
+import com.snackoverflow.toolgether.domain.reservation.entity.ReservationStatus
+import com.snackoverflow.toolgether.domain.reservation.repository.ReservationRepository
+import com.snackoverflow.toolgether.domain.user.entity.User
+import com.snackoverflow.toolgether.domain.user.repository.UserRepository
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.data.domain.PageRequest
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.test.context.ActiveProfiles
+import java.sql.Timestamp
+import java.time.LocalDateTime
+
+/**
+ * 종료 예약 보관 테스트 (H2, ddl-auto 스키마)
+ * 오래된 종료 예약은 (리뷰가 달려 있어도) 보증금 내역과 함께 archive 테이블로 복사 후 삭제되고,
+ * 진행 중인 예약 / 최근 예약은 그대로 남아야 한다. 리뷰는 review 테이블에 남는다
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ReservationArchiverTest {
+
+    @Autowired
+    lateinit var reservationArchiver: ReservationArchiver
+
+    @Autowired
+    lateinit var reservationRepository: ReservationRepository
+
+    @Autowired
+    lateinit var jdbcTemplate: JdbcTemplate
+
+    @Autowired
+    lateinit var userRepository: UserRepository
+
+    @Autowired
+    lateinit var postRepository: PostRepository
+
+    @Test
+    @DisplayName("보관 기준일 이전에 끝난 종료 예약만 보증금 내역과 함께 옮기고, 리뷰는 그대로 남긴다")
+    fun archiveOldTerminalReservations() {
+        val owner = userRepository.save(User(email = "archive-owner@test.com", nickname = "archiveOwner", phoneNumber = "01077770001"))
+        val renter = userRepository.save(User(email = "archive-renter@test.com", nickname = "archiveRenter", phoneNumber = "01077770002"))
+        val post = postRepository.save(
+            Post(
+                user = owner,
+                title = "사다리",
+                content = "보관 테스트",
+                category = Category.TOOL,
+                priceType = PriceType.DAY,
+                price = 1000,
+                latitude = 37.5665,
+                longitude = 126.9780
+            )
+        )
+
+        val yearAgo = LocalDateTime.now().minusYears(1)
+        val yesterday = LocalDateTime.now().minusDays(1)
+        insertReservation(910001, post.id!!, renter.id!!, owner.id!!, yearAgo, ReservationStatus.DONE) // 보관 대상
+        insertReservation(910002, post.id!!, renter.id!!, owner.id!!, yearAgo, ReservationStatus.DONE) // 리뷰 있음 (보관 대상)
+        insertReservation(910003, post.id!!, renter.id!!, owner.id!!, yearAgo, ReservationStatus.IN_PROGRESS) // 종료 상태 아님
+        insertReservation(910004, post.id!!, renter.id!!, owner.id!!, yesterday, ReservationStatus.CANCELED) // 최근 예약
+        insertDeposit(920001, 910001, renter.id!!)
+        insertDeposit(920002, 910002, renter.id!!)
+        jdbcTemplate.update(
+            "INSERT INTO review (reviewer_id, reviewee_id, reservation_id, product_score, time_score, kindness_score, created_at) " +
+                    "VALUES (?, ?, 910002, 5, 5, 5, ?)",
+            renter.id, owner.id, Timestamp.valueOf(yesterday)
+        )
+
+        reservationArchiver.archive()
+
+        // 복사: 예약 (게시물 제목 포함) + 보증금 내역
+        assertEquals(listOf(910001L, 910002L), jdbcTemplate.queryForList("SELECT id FROM reservation_archive WHERE renter_id = ? ORDER BY id", Long::class.java, renter.id))
+        assertEquals("사다리", jdbcTemplate.queryForObject("SELECT post_title FROM reservation_archive WHERE id = 910001", String::class.java))
+        assertEquals("DONE", jdbcTemplate.queryForObject("SELECT status FROM reservation_archive WHERE id = 910001", String::class.java))
+        assertEquals(listOf(920001L, 920002L), jdbcTemplate.queryForList("SELECT id FROM deposit_history_archive WHERE user_id = ? ORDER BY id", Long::class.java, renter.id))
+
+        // 삭제: 옮긴 예약 / 보증금 내역만 원본 테이블에서 사라지고, 리뷰는 원본 예약 ID 로 남음
+        assertEquals(listOf(910003L, 910004L), jdbcTemplate.queryForList("SELECT id FROM reservation WHERE renter_id = ? ORDER BY id", Long::class.java, renter.id))
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM deposit_history WHERE user_id = ?", Int::class.java, renter.id))
+        assertEquals(listOf(910002L), jdbcTemplate.queryForList("SELECT reservation_id FROM review WHERE reviewer_id = ?", Long::class.java, renter.id))
+
+        // 대여자 / 소유자 / 게시물별 조회: 기본은 최근 예약만, includeArchived 이면 보관된 예약까지
+        assertEquals(listOf(910004L, 910003L), reservationRepository.findByRenterId(renter.id!!).map { it.id })
+        assertEquals(listOf(910004L, 910003L, 910002L, 910001L), reservationRepository.findByRenterId(renter.id!!, true).map { it.id })
+        assertEquals(4, reservationRepository.findByOwnerId(owner.id!!, true).size)
+        assertEquals(2, reservationRepository.findByPostId(post.id!!).size)
+
+        // 보관된 예약도 리뷰 작성 여부를 그대로 보여줌
+        val dashboard = reservationRepository.findDashboard(renter.id!!, ReservationDashboardType.BORROWS, null, PageRequest.of(0, 10), true)
+        assertEquals(mapOf(910004L to false, 910003L to false, 910002L to true, 910001L to false), dashboard.content.associate { it.id to it.isReviewed })
+
+        // 다시 실행해도 더 옮길 예약이 없음
+        reservationArchiver.archive()
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM reservation_archive WHERE renter_id = ?", Int::class.java, renter.id))
+    }
+
+    private fun insertReservation(id: Long, postId: Long, renterId: Long, ownerId: Long, endTime: LocalDateTime, status: ReservationStatus) {
+        jdbcTemplate.update(
+            "INSERT INTO reservation (id, post_id, renter_id, owner_id, create_at, start_time, end_time, status, amount) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 10500.0)",
+            id, postId, renterId, ownerId,
+            Timestamp.valueOf(endTime.minusDays(5)), Timestamp.valueOf(endTime.minusDays(3)), Timestamp.valueOf(endTime),
+            status.name
+        )
+    }
+
+    private fun insertDeposit(id: Long, reservationId: Long, userId: Long) {
+        jdbcTemplate.update(
+            "INSERT INTO deposit_history (id, reservation_id, user_id, amount, status, return_reason) VALUES (?, ?, ?, 10000, 'RETURNED', 'NONE')",
+            id, reservationId, userId
+        )
+    }
+}
@@ -0,0 +1,116 @@
+package com.snackoverflow.toolgether.reservation
+
+import com.snackoverflow.toolgether.domain.post.entity.Post
+import com.snackoverflow.toolgether.domain.post.entity.enums.Category
+import com.snackoverflow.toolgether.domain.post.entity.enums.PriceType
+import com.snackoverflow.toolgether.domain.post.repository.PostRepository
+import com.snackoverflow.toolgether.domain.reservation.dto.ReservationBatchRequest
+import com.snackoverflow.toolgether.domain.reservation.entity.ReservationStatus
+import com.snackoverflow.toolgether.domain.reservation.service.ReservationService
+import com.snackoverflow.toolgether.domain.user.entity.User
+import com.snackoverflow.toolgether.domain.user.repository.UserRepository
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.test.context.ActiveProfiles
+import java.sql.Timestamp
+import java.time.LocalDateTime
+
+/**
+ * 일괄 예약 테스트 (H2, ddl-auto 스키마)
+ * 물건 하나라도 기존 예약과 겹치면 아무 예약 / 보증금 내역도 저장되지 않고,
+ * 겹치지 않으면 요청한 물건 전부가 한 번에 저장되어야 한다
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ReservationBatchTest {
+
+    @Autowired
+    lateinit var reservationService: ReservationService
+
+    @Autowired
+    lateinit var jdbcTemplate: JdbcTemplate
+
+    @Autowired
+    lateinit var userRepository: UserRepository
+
+    @Autowired
+    lateinit var postRepository: PostRepository
+
+    @Test
+    @DisplayName("일괄 예약 중 하나라도 기존 예약과 겹치면 전체가 저장되지 않고, 겹치지 않으면 전부 저장된다")
+    fun batchIsAllOrNothing() {
+        val owner = userRepository.save(User(email = "batch-owner@test.com", nickname = "batchOwner", phoneNumber = "01066660001"))
+        val renter = userRepository.save(User(email = "batch-renter@test.com", nickname = "batchRenter", phoneNumber = "01066660002"))
+        val other = userRepository.save(User(email = "batch-other@test.com", nickname = "batchOther", phoneNumber = "01066660003"))
+        val drill = savePost(owner, "전동 드릴")
+        val ladder = savePost(owner, "사다리")
+
+        // 사다리에는 다른 사용자의 승인된 예약이 이미 있음
+        val start = LocalDateTime.now().plusDays(3).withNano(0)
+        jdbcTemplate.update(
+            "INSERT INTO reservation (post_id, renter_id, owner_id, create_at, start_time, end_time, status, amount) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, 10500.0)",
+            ladder.id, other.id, owner.id,
+            Timestamp.valueOf(LocalDateTime.now()), Timestamp.valueOf(start), Timestamp.valueOf(start.plusDays(2)),
+            ReservationStatus.APPROVED.name
+        )
+
+        // 1. 드릴은 비어 있지만 사다리 기간이 겹침 -> 전체 실패
+        val conflicting = ReservationBatchRequest(
+            renter.id!!,
+            listOf(
+                ReservationBatchRequest.Item(drill.id!!, start, start.plusDays(1), 10000.0, 500.0),
+                ReservationBatchRequest.Item(ladder.id!!, start.plusDays(1), start.plusDays(3), 10000.0, 500.0)
+            )
+        )
+        assertThrows(IllegalArgumentException::class.java) { reservationService.requestReservations(conflicting) }
+        assertEquals(0, countReservations(renter.id!!))
+        assertEquals(0, countDeposits(renter.id!!))
+
+        // 2. 사다리 기간을 기존 예약 이후로 옮기면 두 건 모두 저장
+        val valid = ReservationBatchRequest(
+            renter.id!!,
+            listOf(
+                ReservationBatchRequest.Item(drill.id!!, start, start.plusDays(1), 10000.0, 500.0),
+                ReservationBatchRequest.Item(ladder.id!!, start.plusDays(2), start.plusDays(4), 10000.0, 500.0)
+            )
+        )
+        val responses = reservationService.requestReservations(valid)
+
+        assertEquals(2, responses.size)
+        assertEquals(listOf(drill.id, ladder.id), responses.map { it.postId })
+        assertTrue(responses.all { it.status == ReservationStatus.REQUESTED.name })
+        assertEquals(2, countReservations(renter.id!!))
+        assertEquals(
+            responses.map { it.id }.sorted(),
+            jdbcTemplate.queryForList(
+                "SELECT reservation_id FROM deposit_history WHERE user_id = ? ORDER BY reservation_id",
+                Long::class.java, renter.id
+            )
+        )
+    }
+
+    private fun savePost(owner: User, title: String): Post =
+        postRepository.save(
+            Post(
+                user = owner,
+                title = title,
+                content = "일괄 예약 테스트",
+                category = Category.TOOL,
+                priceType = PriceType.DAY,
+                price = 1000,
+                latitude = 37.5665,
+                longitude = 126.9780
+            )
+        )
+
+    private fun countReservations(renterId: Long): Int =
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM reservation WHERE renter_id = ?", Int::class.java, renterId)!!
+
+    private fun countDeposits(renterId: Long): Int =
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM deposit_history WHERE user_id = ?", Int::class.java, renterId)!!
+}
@@ -0,0 +1,95 @@
+package com.snackoverflow.toolgether.reservation
+
+import com.snackoverflow.toolgether.domain.reservation.calendar.ReservationCalendar
+import com.snackoverflow.toolgether.domain.reservation.calendar.ReservationCalendar.TimeRange
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import java.time.LocalDateTime
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+class ReservationCalendarTest {
+
+    private val postId = 1L
+    private val base: LocalDateTime = LocalDateTime.of(2025, 3, 1, 10, 0)
+
+    @Test
+    @DisplayName("같은 게시물에 동시에 들어온 겹치는 예약 요청 중 하나만 점유에 성공한다")
+    fun onlyOneOverlappingRequestWins() {
+        val calendar = ReservationCalendar()
+        val threadCount = 200
+        val executor = Executors.newFixedThreadPool(threadCount)
+        val ready = CountDownLatch(threadCount)
+        val start = CountDownLatch(1)
+        val winners = ConcurrentLinkedQueue<ReservationCalendar.Hold>()
+
+        repeat(threadCount) { i ->
+            executor.submit {
+                // 모든 요청이 서로 겹치도록 1분씩 밀린 10시간짜리 기간
+                val startTime = base.plusMinutes(i.toLong())
+                ready.countDown()
+                start.await()
+                calendar.tryHold(postId, 0L, startTime, startTime.plusHours(10)) { emptyList() }
+                    ?.let { winners.add(it) }
+            }
+        }
+
+        ready.await()
+        start.countDown()
+        executor.shutdown()
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS))
+
+        assertEquals(1, winners.size)
+
+        // 확정 이후에도 겹치는 요청은 거절
+        calendar.confirm(winners.first(), 1L)
+        assertNull(calendar.tryHold(postId, 1L, base.plusHours(1), base.plusHours(2)) { emptyList() })
+    }
+
+    @Test
+    @DisplayName("겹치지 않는 기간은 모두 점유할 수 있고, 롤백된 점유는 해제된다")
+    fun nonOverlappingAndRelease() {
+        val calendar = ReservationCalendar()
+
+        val first = calendar.tryHold(postId, 0L, base, base.plusHours(2)) { emptyList() }
+        val second = calendar.tryHold(postId, 0L, base.plusHours(2), base.plusHours(4)) { emptyList() }
+        assertNotNull(first)
+        assertNotNull(second)
+
+        assertNull(calendar.tryHold(postId, 0L, base.plusHours(1), base.plusHours(3)) { emptyList() })
+
+        calendar.release(first!!)
+        assertNotNull(calendar.tryHold(postId, 0L, base, base.plusHours(1)) { emptyList() })
+    }
+
+    @Test
+    @DisplayName("달력 버전이 바뀌면 DB 기준으로 다시 적재해서 충돌을 검사한다")
+    fun reloadOnVersionChange() {
+        val calendar = ReservationCalendar()
+        val occupied = listOf(TimeRange(base, base.plusHours(3)))
+
+        // 버전 0 에서는 비어 있음
+        val hold = calendar.tryHold(postId, 0L, base.plusDays(1), base.plusDays(1).plusHours(1)) { emptyList() }
+        calendar.release(hold!!)
+
+        // 다른 서버에서 예약이 추가되어 버전이 1 로 올라간 상황
+        assertNull(calendar.tryHold(postId, 1L, base.plusHours(2), base.plusHours(4)) { occupied })
+        assertNotNull(calendar.tryHold(postId, 1L, base.plusHours(3), base.plusHours(4)) { occupied })
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 취소된 예약은 충돌 시 DB 를 다시 읽어 확인한다")
+    fun reverifyConflictAgainstDatabase() {
+        val calendar = ReservationCalendar()
+        var occupied = listOf(TimeRange(base, base.plusHours(3)))
+
+        assertNull(calendar.tryHold(postId, 0L, base, base.plusHours(1)) { occupied })
+
+        // 취소되어 DB 에서는 더 이상 점유하지 않음 (버전은 그대로)
+        occupied = emptyList()
+        assertNotNull(calendar.tryHold(postId, 0L, base, base.plusHours(1)) { occupied })
+    }
+}
@@ -0,0 +1,125 @@
+package com.snackoverflow.toolgether.reservation
+
+import com.snackoverflow.toolgether.domain.post.entity.Post
+import com.snackoverflow.toolgether.domain.post.entity.enums.Category
+import com.snackoverflow.toolgether.domain.post.entity.enums.PriceType
+import com.snackoverflow.toolgether.domain.post.repository.PostRepository
+import com.snackoverflow.toolgether.domain.reservation.calendar.ReservationCalendar
+import com.snackoverflow.toolgether.domain.reservation.dto.ReservationRequest
+import com.snackoverflow.toolgether.domain.reservation.repository.ReservationCalendarVersionRepository
+import com.snackoverflow.toolgether.domain.reservation.repository.ReservationRepository
+import com.snackoverflow.toolgether.domain.reservation.service.ReservationService
+import com.snackoverflow.toolgether.domain.user.entity.User
+import com.snackoverflow.toolgether.domain.user.repository.UserRepository
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.boot.test.context.TestConfiguration
+import org.springframework.context.annotation.Bean
+import org.springframework.context.annotation.Import
+import org.springframework.context.annotation.Primary
+import org.springframework.test.context.ActiveProfiles
+import java.time.LocalDateTime
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+/**
+ * 같은 게시물에 기간이 겹치는 예약 요청이 동시에 들어올 때 하나만 저장되는지 확인
+ * 메모리 달력은 서버마다 따로 있으므로, 요청마다 빈 달력을 쓰게 해서 여러 서버에 나뉘어 들어온 상황을 만든다
+ * -> 충돌은 달력 버전(@Version) 증가와 @Retryable 재시도에서만 걸러진다
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(ReservationConcurrencyTest.ColdCalendarConfig::class)
+class ReservationConcurrencyTest {
+
+    @TestConfiguration
+    class ColdCalendarConfig {
+        // 요청마다 새 달력으로 DB 에서 다시 적재 (다른 서버의 임시 점유는 보이지 않음)
+        @Bean
+        @Primary
+        fun coldReservationCalendar(): ReservationCalendar = object : ReservationCalendar() {
+            override fun tryHold(
+                postId: Long,
+                version: Long,
+                startTime: LocalDateTime,
+                endTime: LocalDateTime,
+                loader: () -> List<ReservationCalendar.TimeRange>
+            ): ReservationCalendar.Hold? = ReservationCalendar().tryHold(postId, version, startTime, endTime, loader)
+        }
+    }
+
+    @Autowired
+    lateinit var reservationService: ReservationService
+
+    @Autowired
+    lateinit var reservationRepository: ReservationRepository
+
+    @Autowired
+    lateinit var calendarVersionRepository: ReservationCalendarVersionRepository
+
+    @Autowired
+    lateinit var userRepository: UserRepository
+
+    @Autowired
+    lateinit var postRepository: PostRepository
+
+    @Test
+    @DisplayName("겹치는 기간의 예약 요청이 동시에 들어오면 하나만 저장된다")
+    fun onlyOneOverlappingReservationIsPersisted() {
+        val owner = userRepository.save(User(email = "owner@test.com", nickname = "owner", phoneNumber = "01000000000"))
+        val renters = (1..8).map {
+            userRepository.save(User(email = "renter$it@test.com", nickname = "renter$it", phoneNumber = "0100000000$it"))
+        }
+        val post = postRepository.save(
+            Post(
+                user = owner,
+                title = "전동 드릴",
+                content = "동시 예약 테스트",
+                category = Category.TOOL,
+                priceType = PriceType.DAY,
+                price = 1000,
+                latitude = 37.5665,
+                longitude = 126.9780
+            )
+        )
+
+        // 모든 요청의 기간이 서로 겹치도록 한 시간씩만 어긋나게
+        val start = LocalDateTime.now().plusDays(1).withNano(0)
+        val ready = CountDownLatch(1)
+        val executor = Executors.newFixedThreadPool(renters.size)
+        val futures = renters.mapIndexed { index, renter ->
+            executor.submit<Boolean> {
+                ready.await()
+                try {
+                    reservationService.requestReservation(
+                        ReservationRequest(
+                            post.id!!,
+                            renter.id!!,
+                            owner.id!!,
+                            start.plusHours(index.toLong()),
+                            start.plusDays(1).plusHours(index.toLong()),
+                            10000.0,
+                            500.0
+                        )
+                    )
+                    true
+                } catch (e: Exception) {
+                    false
+                }
+            }
+        }
+        ready.countDown()
+
+        val succeeded = futures.count { it.get(30, TimeUnit.SECONDS) }
+        executor.shutdown()
+
+        assertEquals(1, succeeded)
+        assertEquals(1, reservationRepository.findByPostId(post.id!!).size)
+        // 저장된 예약 한 건만큼만 달력 버전이 올라감 (생성 0 -> 점유 1)
+        assertEquals(1L, calendarVersionRepository.findById(post.id!!).get().version)
+    }
+}
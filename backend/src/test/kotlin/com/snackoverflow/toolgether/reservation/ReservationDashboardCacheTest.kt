@@ -0,0 +1,111 @@
+package com.snackoverflow.toolgether.reservation
+
+import com.snackoverflow.toolgether.domain.post.entity.Post
+import com.snackoverflow.toolgether.domain.post.entity.enums.Category
+import com.snackoverflow.toolgether.domain.post.entity.enums.PriceType
+import com.snackoverflow.toolgether.domain.post.repository.PostRepository
+import com.snackoverflow.toolgether.domain.reservation.dto.ReservationDashboardType
+import com.snackoverflow.toolgether.domain.reservation.entity.ReservationStatus
+import com.snackoverflow.toolgether.domain.reservation.service.ReservationService
+import com.snackoverflow.toolgether.domain.user.entity.User
+import com.snackoverflow.toolgether.domain.user.repository.UserRepository
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.data.domain.PageRequest
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.test.context.ActiveProfiles
+import java.sql.Timestamp
+import java.time.LocalDateTime
+
+/**
+ * 마이페이지 예약 목록 테스트 (H2 + Redis)
+ * 목록은 한 번의 프로젝션 조회 결과가 캐시되고, 예약 상태가 바뀌면 대여자 / 소유자 양쪽 캐시가 무효화되어야 한다
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ReservationDashboardCacheTest {
+
+    @Autowired
+    lateinit var reservationService: ReservationService
+
+    @Autowired
+    lateinit var redisTemplate: RedisTemplate<String, String>
+
+    @Autowired
+    lateinit var jdbcTemplate: JdbcTemplate
+
+    @Autowired
+    lateinit var userRepository: UserRepository
+
+    @Autowired
+    lateinit var postRepository: PostRepository
+
+    @Test
+    @DisplayName("예약 목록은 캐시된 프로젝션을 반환하고, 상태가 바뀌면 대여자 / 소유자 목록을 다시 조회한다")
+    fun dashboardIsCachedUntilStatusChanges() {
+        val owner = userRepository.save(User(email = "dashboard-owner@test.com", nickname = "dashboardOwner", phoneNumber = "01044440001"))
+        val renter = userRepository.save(User(email = "dashboard-renter@test.com", nickname = "dashboardRenter", phoneNumber = "01044440002"))
+        val post = postRepository.save(
+            Post(
+                user = owner,
+                title = "텐트",
+                content = "예약 목록 테스트",
+                category = Category.TOOL,
+                priceType = PriceType.DAY,
+                price = 1000,
+                latitude = 37.5665,
+                longitude = 126.9780
+            )
+        )
+        // 이전 실행에서 같은 사용자 ID 로 남은 캐시 / 세대 번호 정리
+        listOf(owner.id!!, renter.id!!).forEach {
+            redisTemplate.delete(redisTemplate.keys("reservation:dashboard:$it:*") + "reservation:dashboard:gen:$it")
+        }
+
+        val start = LocalDateTime.now().plusDays(2).withNano(0)
+        insertReservation(950001, post.id!!, renter.id!!, owner.id!!, start)
+        val pageable = PageRequest.of(0, 20)
+
+        // 1. 프로젝션: 게시물 제목 / 금액 / 상태 / 리뷰 여부
+        val first = reservationService.getDashboard(renter.id!!, ReservationDashboardType.BORROWS, null, pageable)
+        assertEquals(1, first.totalElements)
+        with(first.content.single()) {
+            assertEquals(950001L, id)
+            assertEquals("텐트", title)
+            assertEquals(10500.0, amount)
+            assertEquals(start, startTime)
+            assertEquals(ReservationStatus.REQUESTED.name, status)
+            assertFalse(isReviewed)
+        }
+        assertEquals(1, reservationService.getDashboard(owner.id!!, ReservationDashboardType.RENTALS, null, pageable).totalElements)
+
+        // 2. 캐시를 거치지 않고 예약을 추가하면 캐시된 목록이 그대로 반환됨
+        insertReservation(950002, post.id!!, renter.id!!, owner.id!!, start.plusDays(5))
+        assertEquals(1, reservationService.getDashboard(renter.id!!, ReservationDashboardType.BORROWS, null, pageable).totalElements)
+        assertEquals(1, reservationService.getDashboard(owner.id!!, ReservationDashboardType.RENTALS, null, pageable).totalElements)
+
+        // 3. 상태 변경이 커밋되면 양쪽 세대 번호가 올라가 다시 조회
+        reservationService.approveReservation(950001)
+
+        val borrows = reservationService.getDashboard(renter.id!!, ReservationDashboardType.BORROWS, null, pageable)
+        assertEquals(listOf(950002L, 950001L), borrows.content.map { it.id }) // 시작 시간 내림차순
+        assertEquals(ReservationStatus.APPROVED.name, borrows.content.last().status)
+        assertEquals(2, reservationService.getDashboard(owner.id!!, ReservationDashboardType.RENTALS, null, pageable).totalElements)
+        assertEquals("1", redisTemplate.opsForValue()["reservation:dashboard:gen:${renter.id}"])
+        assertEquals("1", redisTemplate.opsForValue()["reservation:dashboard:gen:${owner.id}"])
+    }
+
+    private fun insertReservation(id: Long, postId: Long, renterId: Long, ownerId: Long, startTime: LocalDateTime) {
+        jdbcTemplate.update(
+            "INSERT INTO reservation (id, post_id, renter_id, owner_id, create_at, start_time, end_time, status, amount) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 10500.0)",
+            id, postId, renterId, ownerId,
+            Timestamp.valueOf(LocalDateTime.now()), Timestamp.valueOf(startTime), Timestamp.valueOf(startTime.plusDays(1)),
+            ReservationStatus.REQUESTED.name
+        )
+    }
+}
@@ -0,0 +1,137 @@
+package com.snackoverflow.toolgether.reservation
+
+import com.snackoverflow.toolgether.domain.notification.service.NotificationService
+import com.snackoverflow.toolgether.domain.post.entity.Post
+import com.snackoverflow.toolgether.domain.post.entity.enums.Category
+import com.snackoverflow.toolgether.domain.post.entity.enums.PriceType
+import com.snackoverflow.toolgether.domain.post.repository.PostRepository
+import com.snackoverflow.toolgether.domain.reservation.entity.ReservationOutbox
+import com.snackoverflow.toolgether.domain.reservation.entity.ReservationStatus
+import com.snackoverflow.toolgether.domain.reservation.outbox.ReservationOutboxDispatcher
+import com.snackoverflow.toolgether.domain.reservation.repository.ReservationOutboxRepository
+import com.snackoverflow.toolgether.domain.user.entity.User
+import com.snackoverflow.toolgether.domain.user.repository.UserRepository
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.mockito.ArgumentMatchers.anyLong
+import org.mockito.ArgumentMatchers.anyString
+import org.mockito.BDDMockito.willAnswer
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.data.domain.PageRequest
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.test.context.ActiveProfiles
+import org.springframework.test.context.bean.override.mockito.MockitoBean
+import java.sql.Timestamp
+import java.time.LocalDateTime
+
+/**
+ * 예약 outbox 처리 테스트 (H2, ddl-auto 스키마)
+ * 한 건이 실패하면 배치 전체가 롤백된 뒤 한 건씩 다시 처리되어 정상 outbox 만 완료되고,
+ * 실패한 outbox 는 5번 실패한 뒤 더 이상 꺼내지 않아야 한다
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ReservationOutboxDispatcherTest {
+
+    @Autowired
+    lateinit var dispatcher: ReservationOutboxDispatcher
+
+    @Autowired
+    lateinit var outboxRepository: ReservationOutboxRepository
+
+    @Autowired
+    lateinit var jdbcTemplate: JdbcTemplate
+
+    @Autowired
+    lateinit var userRepository: UserRepository
+
+    @Autowired
+    lateinit var postRepository: PostRepository
+
+    @MockitoBean
+    lateinit var notificationService: NotificationService
+
+    @Test
+    @DisplayName("배치가 실패하면 한 건씩 다시 처리하고, 계속 실패하는 outbox 는 5번 시도 후 보류한다")
+    fun retryIndividuallyAndParkAfterMaxAttempts() {
+        val owner = userRepository.save(User(email = "outbox-owner@test.com", nickname = "outboxOwner", phoneNumber = "01055550001"))
+        val renter = userRepository.save(User(email = "outbox-renter@test.com", nickname = "outboxRenter", phoneNumber = "01055550002"))
+        val post = postRepository.save(
+            Post(
+                user = owner,
+                title = "캠핑 의자",
+                content = "outbox 테스트",
+                category = Category.TOOL,
+                priceType = PriceType.DAY,
+                price = 1000,
+                latitude = 37.5665,
+                longitude = 126.9780
+            )
+        )
+
+        // 930001 은 정상 처리, 930002 는 알림 단계에서 항상 실패
+        insertReservation(930001, post.id!!, renter.id!!, owner.id!!)
+        insertReservation(930002, post.id!!, renter.id!!, owner.id!!)
+        insertDeposit(940001, 930001, renter.id!!)
+        insertDeposit(940002, 930002, renter.id!!)
+        val succeeding = outboxRepository.save(ReservationOutbox.of(930001, ReservationStatus.DONE))
+        val failing = outboxRepository.save(ReservationOutbox.of(930002, ReservationStatus.DONE))
+
+        willAnswer { invocation ->
+            if (invocation.getArgument<String>(1).startsWith("[930002]")) throw IllegalStateException("알림 저장 실패")
+            null
+        }.given(notificationService).createNotification(anyLong(), anyString())
+
+        // 1회차: 배치 롤백 -> 한 건씩 처리 (930001 완료, 930002 실패 1회)
+        dispatcher.dispatch()
+
+        val processed = outboxRepository.findById(succeeding.id!!).get()
+        assertNotNull(processed.processedAt)
+        assertEquals(0, processed.attempts)
+        assertEquals("RETURNED", depositStatus(940001))
+        assertEquals("PENDING", depositStatus(940002))
+        assertEquals(10000, credit(renter.id!!))
+        assertEquals(1, outboxRepository.findById(failing.id!!).get().attempts)
+
+        // 2 ~ 5회차: 930002 만 계속 실패
+        repeat(4) { dispatcher.dispatch() }
+
+        val parked = outboxRepository.findById(failing.id!!).get()
+        assertNull(parked.processedAt)
+        assertEquals(5, parked.attempts)
+        assertEquals("알림 저장 실패", parked.lastError)
+        assertFalse(outboxRepository.findPendingIds(5, PageRequest.of(0, 10)).contains(failing.id))
+
+        // 보류된 뒤에는 더 시도하지 않고, 이미 완료된 보증금은 다시 반영되지 않음
+        dispatcher.dispatch()
+        assertEquals(5, outboxRepository.findById(failing.id!!).get().attempts)
+        assertEquals(10000, credit(renter.id!!))
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM credit_ledger WHERE user_id = ?", Int::class.java, renter.id))
+    }
+
+    private fun insertReservation(id: Long, postId: Long, renterId: Long, ownerId: Long) {
+        val endTime = LocalDateTime.now().minusDays(1)
+        jdbcTemplate.update(
+            "INSERT INTO reservation (id, post_id, renter_id, owner_id, create_at, start_time, end_time, status, amount) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 10500.0)",
+            id, postId, renterId, ownerId,
+            Timestamp.valueOf(endTime.minusDays(5)), Timestamp.valueOf(endTime.minusDays(3)), Timestamp.valueOf(endTime),
+            ReservationStatus.DONE.name
+        )
+    }
+
+    private fun insertDeposit(id: Long, reservationId: Long, userId: Long) {
+        jdbcTemplate.update(
+            "INSERT INTO deposit_history (id, reservation_id, user_id, amount, status, return_reason) VALUES (?, ?, ?, 10000, 'PENDING', 'NONE')",
+            id, reservationId, userId
+        )
+    }
+
+    private fun depositStatus(id: Long): String =
+        jdbcTemplate.queryForObject("SELECT status FROM deposit_history WHERE id = ?", String::class.java, id)!!
+
+    private fun credit(userId: Long): Int =
+        jdbcTemplate.queryForObject("SELECT credit FROM users WHERE id = ?", Int::class.java, userId)!!
+}
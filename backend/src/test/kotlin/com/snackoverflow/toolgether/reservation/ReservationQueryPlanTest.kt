@@ -0,0 +1,182 @@
+package com.snackoverflow.toolgether.reservation
+
+import com.snackoverflow.toolgether.domain.post.entity.Post
+import com.snackoverflow.toolgether.domain.post.entity.enums.Category
+import com.snackoverflow.toolgether.domain.post.entity.enums.PriceType
+import com.snackoverflow.toolgether.domain.post.repository.PostRepository
+import com.snackoverflow.toolgether.domain.reservation.dto.ReservationDashboardType
+import com.snackoverflow.toolgether.domain.reservation.entity.ReservationStatus
+import com.snackoverflow.toolgether.domain.reservation.repository.ReservationRepository
+import com.snackoverflow.toolgether.domain.user.entity.User
+import com.snackoverflow.toolgether.domain.user.repository.UserRepository
+import org.hibernate.resource.jdbc.spi.StatementInspector
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.BeforeAll
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.TestInstance
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.data.domain.PageRequest
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.test.context.ActiveProfiles
+import org.springframework.transaction.support.TransactionTemplate
+import java.sql.Timestamp
+import java.time.LocalDateTime
+import javax.sql.DataSource
+
+/**
+ * Hibernate 가 현재 스레드에서 실행하는 SQL 을 모은다 (스케줄러 등 다른 스레드의 SQL 은 제외)
+ */
+class ReservationSqlCapture : StatementInspector {
+    companion object {
+        private val captured = ThreadLocal<MutableList<String>?>()
+
+        fun capture(block: () -> Unit): List<String> {
+            val statements = mutableListOf<String>()
+            captured.set(statements)
+            try {
+                block()
+            } finally {
+                captured.remove()
+            }
+            return statements
+        }
+    }
+
+    override fun inspect(sql: String): String {
+        captured.get()?.add(sql)
+        return sql
+    }
+}
+
+/**
+ * 예약 조회 경로 실행 계획 회귀 테스트
+ * ddl-auto 로 만든 스키마(엔티티의 @Table(indexes))에서 리포지토리를 실제로 호출하고,
+ * Hibernate 가 만든 SQL 을 그대로 EXPLAIN 해 전체 스캔 없이 의도한 인덱스를 타는지 확인한다
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReservationQueryPlanTest {
+
+    @Autowired
+    lateinit var reservationRepository: ReservationRepository
+
+    @Autowired
+    lateinit var userRepository: UserRepository
+
+    @Autowired
+    lateinit var postRepository: PostRepository
+
+    @Autowired
+    lateinit var dataSource: DataSource
+
+    @Autowired
+    lateinit var transactionTemplate: TransactionTemplate
+
+    private val base: LocalDateTime = LocalDateTime.of(2025, 1, 1, 0, 0)
+    private var ownerId = 0L
+    private var postId = 0L
+
+    @BeforeAll
+    fun setUp() {
+        val users = (1..30).map {
+            userRepository.save(User(email = "plan$it@test.com", nickname = "plan$it", phoneNumber = "0109999%04d".format(it)))
+        }
+        val posts = (1..200).map {
+            postRepository.save(
+                Post(
+                    user = users[it % users.size],
+                    title = "게시물 $it",
+                    content = "실행 계획 테스트",
+                    category = Category.TOOL,
+                    priceType = PriceType.DAY,
+                    price = 1000,
+                    latitude = 37.5665,
+                    longitude = 126.9780
+                )
+            )
+        }
+        ownerId = users[7].id!!
+        postId = posts[17].id!!
+
+        // 통계가 있어야 옵티마이저가 인덱스 선택도를 계산하므로 게시물 / 사용자 / 상태가 섞인 데이터를 넣는다
+        val statuses = ReservationStatus.entries
+        val rows = (1..3000).map { i ->
+            val startTime = base.plusHours(i.toLong())
+            arrayOf<Any>(
+                posts[i % posts.size].id!!, users[i % users.size].id!!, users[(i + 1) % users.size].id!!,
+                Timestamp.valueOf(base), Timestamp.valueOf(startTime), Timestamp.valueOf(startTime.plusHours(3)),
+                statuses[i % statuses.size].name, 10000.0
+            )
+        }
+        val jdbcTemplate = JdbcTemplate(dataSource)
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO reservation (post_id, renter_id, owner_id, create_at, start_time, end_time, status, amount) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+            rows
+        )
+        jdbcTemplate.execute("ANALYZE")
+    }
+
+    @Test
+    @DisplayName("예약 달력 적재(findPeriodsByPostId)는 (post_id, start_time, end_time, status) 인덱스만으로 처리한다")
+    fun periodsUsePostIndex() {
+        val statements = ReservationSqlCapture.capture {
+            reservationRepository.findPeriodsByPostId(postId, ReservationStatus.ACTIVE)
+        }
+        assertPlans(statements, "IDX_RESERVATION_POST_START_END")
+    }
+
+    @Test
+    @DisplayName("예약 가능 시간 계산(findOverlapping)은 (post_id, start_time, end_time, status) 인덱스를 사용한다")
+    fun overlapUsesPostIndex() {
+        val statements = ReservationSqlCapture.capture {
+            reservationRepository.findOverlapping(postId, ReservationStatus.ACTIVE, base.plusDays(30), base.plusDays(60))
+        }
+        assertPlans(statements, "IDX_RESERVATION_POST_START_END")
+    }
+
+    @Test
+    @DisplayName("대여 시작 대상 조회(findStartDueForUpdate)는 (status, start_time) 인덱스를 사용한다")
+    fun startDueUsesStatusIndex() {
+        val statements = ReservationSqlCapture.capture {
+            // 비관적 락 쿼리이므로 트랜잭션 안에서 실행
+            transactionTemplate.executeWithoutResult {
+                reservationRepository.findStartDueForUpdate(ReservationStatus.APPROVED, base.plusDays(30), PageRequest.of(0, 500))
+            }
+        }
+        assertPlans(statements, "IDX_RESERVATION_STATUS_START_TIME")
+    }
+
+    @Test
+    @DisplayName("마이페이지 예약 목록(findDashboard)의 개수 / 목록 / 리뷰 여부 / 대표 이미지 쿼리는 전체 스캔이 없다")
+    fun dashboardHasNoTableScan() {
+        val statements = ReservationSqlCapture.capture {
+            reservationRepository.findDashboard(ownerId, ReservationDashboardType.RENTALS, null, PageRequest.of(0, 20), false)
+        }
+        assertEquals(2, statements.size, "개수 + 목록 쿼리가 실행되어야 함:\n$statements")
+        assertPlans(statements, "IDX_RESERVATION_OWNER_START_TIME")
+    }
+
+    private fun assertPlans(statements: List<String>, indexName: String) {
+        assertTrue(statements.isNotEmpty(), "실행된 SQL 이 없음")
+        statements.forEach { sql ->
+            val plan = explain(sql)
+            assertFalse(plan.contains("TABLESCAN"), "전체 스캔 발생:\n$sql\n$plan")
+            assertTrue(plan.contains(indexName), "$indexName 인덱스를 사용하지 않음:\n$sql\n$plan")
+        }
+    }
+
+    // H2 의 EXPLAIN 은 파라미터 값 없이도 계획을 보여주므로 Hibernate 가 만든 SQL 을 그대로 사용
+    private fun explain(sql: String): String =
+        dataSource.connection.use { connection ->
+            connection.prepareStatement("EXPLAIN $sql").use { statement ->
+                statement.executeQuery().use { resultSet ->
+                    resultSet.next()
+                    resultSet.getString(1).uppercase()
+                }
+            }
+        }
+}
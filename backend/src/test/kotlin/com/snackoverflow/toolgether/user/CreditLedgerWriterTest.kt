@@ -0,0 +1,107 @@
+package com.snackoverflow.toolgether.user
+
+import com.snackoverflow.toolgether.domain.user.entity.CreditReason
+import com.snackoverflow.toolgether.domain.user.repository.CreditLedgerWriter
+import com.snackoverflow.toolgether.domain.user.repository.CreditLedgerWriter.CreditEntry
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.dao.DataIntegrityViolationException
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.jdbc.datasource.DataSourceTransactionManager
+import org.springframework.jdbc.datasource.DriverManagerDataSource
+import org.springframework.transaction.support.TransactionTemplate
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+class CreditLedgerWriterTest {
+
+    private val dataSource = DriverManagerDataSource(
+        "jdbc:h2:mem:credit_ledger;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=30000", "sa", ""
+    )
+    private val jdbcTemplate = JdbcTemplate(dataSource)
+    private val transactionTemplate = TransactionTemplate(DataSourceTransactionManager(dataSource))
+    private val writer = CreditLedgerWriter(jdbcTemplate)
+
+    private val userId = 1L
+
+    @BeforeEach
+    fun setUp() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS credit_ledger")
+        jdbcTemplate.execute("DROP TABLE IF EXISTS users")
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, credit INT NOT NULL)")
+        jdbcTemplate.execute(
+            "CREATE TABLE credit_ledger (id BIGINT AUTO_INCREMENT PRIMARY KEY, user_id BIGINT NOT NULL, " +
+                    "amount INT NOT NULL, reason VARCHAR(50) NOT NULL, reference VARCHAR(100) UNIQUE, created_at TIMESTAMP NOT NULL)"
+        )
+        jdbcTemplate.update("INSERT INTO users (id, credit) VALUES (?, 0)", userId)
+    }
+
+    @Test
+    @DisplayName("같은 사용자에게 동시에 1000건의 보증금 반환이 반영되어도 누락되지 않는다")
+    fun noLostUpdatesUnderParallelRefunds() {
+        val refundCount = 1000
+        val amount = 100
+        val executor = Executors.newFixedThreadPool(32)
+        val start = CountDownLatch(1)
+        val errors = ConcurrentLinkedQueue<Throwable>()
+
+        repeat(refundCount) { i ->
+            executor.submit {
+                start.await()
+                try {
+                    transactionTemplate.executeWithoutResult {
+                        writer.apply(listOf(CreditEntry(userId, amount, CreditReason.DEPOSIT_RETURN, "deposit:$i")))
+                    }
+                } catch (e: Throwable) {
+                    errors.add(e)
+                }
+            }
+        }
+
+        start.countDown()
+        executor.shutdown()
+        assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS))
+
+        assertTrue(errors.isEmpty()) { "실패한 반영: ${errors.firstOrNull()}" }
+        assertEquals(refundCount * amount, balance())
+        assertEquals(refundCount, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM credit_ledger", Int::class.java))
+        assertEquals(balance(), jdbcTemplate.queryForObject("SELECT SUM(amount) FROM credit_ledger", Int::class.java))
+    }
+
+    @Test
+    @DisplayName("같은 reference 는 한 번만 반영되고, 실패한 반영은 잔액에도 남지 않는다")
+    fun duplicateReferenceIsRejected() {
+        val entry = CreditEntry(userId, 500, CreditReason.DEPOSIT_RETURN, "deposit:1")
+
+        transactionTemplate.executeWithoutResult { writer.apply(listOf(entry)) }
+        assertThrows(DataIntegrityViolationException::class.java) {
+            transactionTemplate.executeWithoutResult { writer.apply(listOf(entry)) }
+        }
+
+        assertEquals(500, balance())
+    }
+
+    @Test
+    @DisplayName("여러 건은 사용자별로 합산해서 반영하고, 없는 사용자는 반환한다")
+    fun aggregatesPerUserAndReportsMissingUsers() {
+        val missing = transactionTemplate.execute {
+            writer.apply(
+                listOf(
+                    CreditEntry(userId, 300, CreditReason.DEPOSIT_RETURN),
+                    CreditEntry(userId, -100, CreditReason.ADJUSTMENT),
+                    CreditEntry(99L, 100, CreditReason.ADJUSTMENT)
+                )
+            )
+        }
+
+        assertEquals(listOf(99L), missing)
+        assertEquals(200, balance())
+    }
+
+    private fun balance(): Int =
+        jdbcTemplate.queryForObject("SELECT credit FROM users WHERE id = ?", Int::class.java, userId)!!
+}